@@ -0,0 +1,199 @@
+package net.krlite.equator.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h2>SpecializedProcessor</h2>
+ * Generates the <code>Specialization</code> of each class marked
+ * with <code>@Specialized</code>, as straight-line code matching
+ * the reflective <code>HashCodeComparable</code> and
+ * <code>FieldFormattable</code>:
+ * <ul>
+ *     <li>The hash code and the equality cover the non-static,
+ *     non-transient fields of the class and its superclasses below
+ *     <code>HashCodeComparable</code>, from the topmost superclass
+ *     down.</li>
+ *     <li>The formatting covers all fields declared by the class
+ *     itself, in declaration order.</li>
+ * </ul>
+ * The core types are referred to by name, so that this module
+ * does not depend on the library.
+ */
+@SupportedAnnotationTypes(SpecializedProcessor.SPECIALIZED)
+public class SpecializedProcessor extends AbstractProcessor {
+	static final String SPECIALIZED = "net.krlite.equator.core.Specialized";
+	private static final String SPECIALIZATION = "net.krlite.equator.core.Specialization";
+	private static final String HASH_CODE_COMPARABLE = "net.krlite.equator.base.HashCodeComparable";
+	private static final String SUFFIX = "_Specialization";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() != ElementKind.CLASS) {
+					error(element, "@Specialized only applies to classes");
+					continue;
+				}
+				try {
+					generate((TypeElement) element);
+				} catch (IOException e) {
+					error(element, "Failed to generate the specialization: " + e.getMessage());
+				}
+			}
+		}
+		return true;
+	}
+
+	private void generate(TypeElement type) throws IOException {
+		PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+		String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+		String typeName = type.getQualifiedName() + wildcards(type);
+
+		List<VariableElement> compared = new ArrayList<>();
+		List<TypeElement> hierarchy = new ArrayList<>();
+		for (TypeElement t = type; t != null && !t.getQualifiedName().contentEquals(HASH_CODE_COMPARABLE)
+				&& !t.getQualifiedName().contentEquals("java.lang.Object"); t = superclass(t)) hierarchy.add(0, t);
+		for (TypeElement t : hierarchy) {
+			for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+				Set<Modifier> modifiers = field.getModifiers();
+				if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) compared.add(field);
+			}
+		}
+		List<VariableElement> declared = ElementFilter.fieldsIn(type.getEnclosedElements());
+
+		boolean accessible = true;
+		for (VariableElement field : compared) accessible &= checkAccessible(type, field, pkg);
+		for (VariableElement field : declared) if (field.getModifiers().contains(Modifier.STATIC)) accessible &= checkAccessible(type, field, pkg);
+		if (!accessible) return;
+
+		try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(
+				packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type).openWriter())) {
+			if (!packageName.isEmpty()) out.println("package " + packageName + ";\n");
+			out.println("/**");
+			out.println(" * Generated specialization of {@link " + type.getQualifiedName() + "}.");
+			out.println(" */");
+			out.println("public final class " + simpleName + " implements " + SPECIALIZATION + "<" + typeName + "> {");
+
+			out.println("\t@Override");
+			out.println("\tpublic int hashCode(" + typeName + " object) {");
+			out.println("\t\tint result = 1;");
+			for (VariableElement field : compared)
+				out.println("\t\tresult = 31 * result + " + hash(field.asType(), "object." + field.getSimpleName()) + ";");
+			out.println("\t\treturn result;");
+			out.println("\t}\n");
+
+			out.println("\t@Override");
+			out.println("\tpublic boolean equals(" + typeName + " object, " + typeName + " another) {");
+			if (compared.isEmpty()) out.println("\t\treturn true;");
+			else {
+				out.print("\t\treturn ");
+				for (int i = 0; i < compared.size(); i++) {
+					String name = compared.get(i).getSimpleName().toString();
+					if (i > 0) out.print("\n\t\t\t\t&& ");
+					out.print(same(compared.get(i).asType(), "object." + name, "another." + name));
+				}
+				out.println(";");
+			}
+			out.println("\t}\n");
+
+			out.println("\t@Override");
+			out.println("\tpublic String formatFields(" + typeName + " object, boolean fieldNames, String... excluded) {");
+			out.println("\t\tStringBuilder builder = new StringBuilder();");
+			out.println("\t\tboolean separate = false;");
+			for (VariableElement field : declared) {
+				String name = field.getSimpleName().toString();
+				String access = (field.getModifiers().contains(Modifier.STATIC) ? type.getQualifiedName() : "object") + "." + name;
+				out.println("\t\tif (!" + SPECIALIZATION + ".isExcluded(\"" + name + "\", excluded)) {");
+				out.println("\t\t\tif (separate) builder.append(\", \");");
+				out.println("\t\t\tif (fieldNames) builder.append(\"" + name + "=\");");
+				// Appends arrays as objects, the same as string concatenation
+				out.println("\t\t\tbuilder.append(" + (field.asType().getKind() == TypeKind.ARRAY ? "(Object) " : "") + access + ");");
+				out.println("\t\t\tseparate = true;");
+				out.println("\t\t}");
+			}
+			out.println("\t\treturn builder.toString();");
+			out.println("\t}");
+			out.println("}");
+		}
+	}
+
+	private TypeElement superclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+	}
+
+	private static String wildcards(TypeElement type) {
+		int count = type.getTypeParameters().size();
+		return count == 0 ? "" : "<" + String.join(", ", Collections.nCopies(count, "?")) + ">";
+	}
+
+	/**
+	 * Checks whether a field is readable from the generated class,
+	 * which lives in the package of the marked class.
+	 */
+	private boolean checkAccessible(TypeElement type, VariableElement field, PackageElement pkg) {
+		Set<Modifier> modifiers = field.getModifiers();
+		boolean samePackage = processingEnv.getElementUtils().getPackageOf(field).equals(pkg);
+		if (modifiers.contains(Modifier.PRIVATE) || (!modifiers.contains(Modifier.PUBLIC) && !samePackage)) {
+			error(type, "Field " + field.getEnclosingElement().getSimpleName() + "." + field.getSimpleName()
+					+ " must be accessible from package " + pkg.getQualifiedName() + " to be specialized");
+			return false;
+		}
+		return true;
+	}
+
+	private static String hash(TypeMirror type, String value) {
+		return switch (type.getKind()) {
+			case BOOLEAN -> "Boolean.hashCode(" + value + ")";
+			case BYTE -> "Byte.hashCode(" + value + ")";
+			case SHORT -> "Short.hashCode(" + value + ")";
+			case CHAR -> "Character.hashCode(" + value + ")";
+			case INT -> "Integer.hashCode(" + value + ")";
+			case LONG -> "Long.hashCode(" + value + ")";
+			case FLOAT -> "Float.hashCode(" + value + ")";
+			case DOUBLE -> "Double.hashCode(" + value + ")";
+			default -> "java.util.Objects.hashCode(" + value + ")";
+		};
+	}
+
+	private static String same(TypeMirror type, String value, String another) {
+		return switch (type.getKind()) {
+			case FLOAT -> "Float.compare(" + value + ", " + another + ") == 0";
+			case DOUBLE -> "Double.compare(" + value + ", " + another + ") == 0";
+			default -> type.getKind().isPrimitive()
+							   ? value + " == " + another
+							   : "java.util.Objects.equals(" + value + ", " + another + ")";
+		};
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
@@ -0,0 +1,122 @@
+package net.krlite.equator.util;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJJ_Result;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+import org.openjdk.jcstress.infra.results.J_Result;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stresses the {@link AtomicTimer} for lost updates. Each timer
+ * counts on a manual {@link VirtualClock}, so the time stands
+ * still and every outcome is exact.
+ */
+public class AtomicTimerStress {
+	/**
+	 * Two steps racing each other must both be taken.
+	 */
+	@JCStressTest
+	@Description("Steps racing each other")
+	@Outcome(id = "3", expect = Expect.ACCEPTABLE, desc = "Both steps taken")
+	@Outcome(id = "2", expect = Expect.FORBIDDEN, desc = "A step is lost")
+	@State
+	public static class Steps {
+		private final AtomicTimer timer = new AtomicTimer(Long.MAX_VALUE, new VirtualClock());
+
+		public Steps() {
+			timer.enterStepping();
+		}
+
+		@Actor
+		public void step1() {
+			timer.step(1);
+		}
+
+		@Actor
+		public void step2() {
+			timer.step(1);
+		}
+
+		@Arbiter
+		public void arbiter(J_Result result) {
+			result.r1 = timer.queueElapsed(true);
+		}
+	}
+
+	/**
+	 * Two counted reads racing each other must each take a step of
+	 * their own.
+	 */
+	@JCStressTest
+	@Description("Counted reads racing each other")
+	@Outcome(id = {"1, 2, 2", "2, 1, 2"}, expect = Expect.ACCEPTABLE, desc = "Each read takes its own step")
+	@Outcome(expect = Expect.FORBIDDEN, desc = "A step is lost or taken twice")
+	@State
+	public static class CountedReads {
+		private final AtomicTimer timer = new AtomicTimer(Long.MAX_VALUE, new VirtualClock());
+
+		public CountedReads() {
+			timer.enterStepping();
+		}
+
+		@Actor
+		public void read1(JJJ_Result result) {
+			result.r1 = timer.queueElapsed(true);
+		}
+
+		@Actor
+		public void read2(JJJ_Result result) {
+			result.r2 = timer.queueElapsed(true);
+		}
+
+		@Arbiter
+		public void arbiter(JJJ_Result result) {
+			result.r3 = timer.queueElapsed(false);
+		}
+	}
+
+	/**
+	 * A reset racing a step must neither drop the step nor the
+	 * reset. The reset moves the origin and keeps the steps taken,
+	 * so the outcome is the same in either order.
+	 */
+	@JCStressTest
+	@Description("Reset racing a step")
+	@Outcome(id = "0, 16", expect = Expect.ACCEPTABLE, desc = "Both the reset and the step applied")
+	@Outcome(id = "0, 11", expect = Expect.FORBIDDEN, desc = "The step is lost to the reset")
+	@Outcome(id = "10, 16", expect = Expect.FORBIDDEN, desc = "The reset is lost to the step")
+	@Outcome(expect = Expect.FORBIDDEN, desc = "The state is torn")
+	@State
+	public static class ResetStep {
+		private final VirtualClock clock = new VirtualClock();
+		private final AtomicTimer timer = new AtomicTimer(Long.MAX_VALUE, clock);
+
+		public ResetStep() {
+			clock.advance(10, TimeUnit.NANOSECONDS);
+			timer.enterStepping();
+		}
+
+		@Actor
+		public void reset() {
+			timer.reset();
+		}
+
+		@Actor
+		public void step() {
+			timer.step(5);
+		}
+
+		@Arbiter
+		public void arbiter(JJ_Result result) {
+			result.r1 = timer.queueElapsed(false);
+			result.r2 = timer.queueElapsed(true);
+		}
+	}
+}
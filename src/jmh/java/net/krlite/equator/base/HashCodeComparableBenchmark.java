@@ -0,0 +1,38 @@
+package net.krlite.equator.base;
+
+import net.krlite.equator.util.pair.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the field-value {@link HashCodeComparable#hashCode()} and
+ * {@link HashCodeComparable#equals(Object)} through {@link Pair}.
+ */
+@State(Scope.Thread)
+public class HashCodeComparableBenchmark {
+	private Pair<Integer, String> pair, same, other;
+
+	@Setup
+	public void setup() {
+		pair = new Pair<>(1024, "pair");
+		same = new Pair<>(1024, "pair");
+		other = new Pair<>(2048, "other");
+	}
+
+	@Benchmark
+	public int hashCodeOf() {
+		return pair.hashCode();
+	}
+
+	@Benchmark
+	public boolean equalsSame() {
+		return pair.equals(same);
+	}
+
+	@Benchmark
+	public boolean equalsOther() {
+		return pair.equals(other);
+	}
+}
@@ -0,0 +1,41 @@
+package net.krlite.equator.core;
+
+import net.krlite.equator.util.pair.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the cached {@link FieldFormattable#formatFields()} and
+ * the string representations built upon it, through {@link Pair}.
+ */
+@State(Scope.Thread)
+public class FieldFormattableBenchmark {
+	private Pair<Integer, String> pair;
+
+	@Setup
+	public void setup() {
+		pair = new Pair<>(1024, "pair");
+	}
+
+	@Benchmark
+	public String formatFields() {
+		return pair.formatFields();
+	}
+
+	@Benchmark
+	public String formatFieldsExcluded() {
+		return pair.formatFields("second");
+	}
+
+	@Benchmark
+	public String toStringOf() {
+		return pair.toString();
+	}
+
+	@Benchmark
+	public String toShortString() {
+		return pair.toShortString();
+	}
+}
@@ -0,0 +1,53 @@
+package net.krlite.equator.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compares a {@link BakedEasing} against its source function.
+ */
+@State(Scope.Thread)
+public class BakedEasingBenchmark {
+	private static final int SAMPLES = 1024;
+
+	@Param({"Sinusoidal", "Exponential", "Circular", "Elastic", "Back"})
+	public String family;
+
+	@Param({"ease", "easeIn", "easeOut"})
+	public String variant;
+
+	@Param({"LINEAR", "HERMITE"})
+	public BakedEasing.Interpolation interpolation;
+
+	private EasingFunctions.QuadDoubleFunction source;
+	private BakedEasing baked;
+	private final double[] progress = new double[SAMPLES];
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		for (int i = 0; i < SAMPLES; i++) progress[i] = random.nextDouble() * 1000;
+		source = EasingFunctionsBenchmark.function(family, variant);
+		baked = new BakedEasing(source, BakedEasing.DEFAULT_RESOLUTION, interpolation);
+	}
+
+	private double nextProgress() {
+		return progress[index++ & (SAMPLES - 1)];
+	}
+
+	@Benchmark
+	public double source() {
+		return source.apply(nextProgress(), 0, 1, 1000);
+	}
+
+	@Benchmark
+	public double baked() {
+		return baked.apply(nextProgress(), 0, 1, 1000);
+	}
+}
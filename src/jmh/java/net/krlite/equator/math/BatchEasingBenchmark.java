@@ -0,0 +1,87 @@
+package net.krlite.equator.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compares the batch easing functions against easing element by
+ * element, without the <code>jdk.incubator.vector</code> module.
+ *
+ * @see Vectorized
+ */
+@State(Scope.Thread)
+public class BatchEasingBenchmark {
+	@Param({"1024", "65536"})
+	public int size;
+
+	private double[] progress, origin, shift, out;
+	private float[] progressFloat, originFloat, shiftFloat, outFloat;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		progress = new double[size];
+		origin = new double[size];
+		shift = new double[size];
+		out = new double[size];
+		progressFloat = new float[size];
+		originFloat = new float[size];
+		shiftFloat = new float[size];
+		outFloat = new float[size];
+		for (int i = 0; i < size; i++) {
+			progressFloat[i] = (float) (progress[i] = random.nextDouble() * 1000);
+			originFloat[i] = (float) (origin[i] = random.nextDouble());
+			shiftFloat[i] = (float) (shift[i] = random.nextDouble() * 100);
+		}
+	}
+
+	@Benchmark
+	public double[] quadraticInScalar() {
+		for (int i = 0; i < size; i++) out[i] = EasingFunctions.Quadratic.easeIn(progress[i], origin[i], shift[i], 1000);
+		return out;
+	}
+
+	@Benchmark
+	public double[] quadraticInBatch() {
+		EasingFunctions.Quadratic.easeIn(progress, origin, shift, 1000, out);
+		return out;
+	}
+
+	@Benchmark
+	public float[] quadraticInBatchFloat() {
+		EasingFunctions.Quadratic.easeIn(progressFloat, originFloat, shiftFloat, 1000, outFloat);
+		return outFloat;
+	}
+
+	@Benchmark
+	public double[] cubicScalar() {
+		for (int i = 0; i < size; i++) out[i] = EasingFunctions.Cubic.ease(progress[i], origin[i], shift[i], 1000);
+		return out;
+	}
+
+	@Benchmark
+	public double[] cubicBatch() {
+		EasingFunctions.Cubic.ease(progress, origin, shift, 1000, out);
+		return out;
+	}
+
+	@Benchmark
+	public double[] sinusoidalOutBatch() {
+		EasingFunctions.Sinusoidal.easeOut(progress, origin, shift, 1000, out);
+		return out;
+	}
+
+	/**
+	 * The same benchmarks, with the <code>jdk.incubator.vector</code>
+	 * module added.
+	 */
+	@Fork(jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+	public static class Vectorized extends BatchEasingBenchmark {
+	}
+}
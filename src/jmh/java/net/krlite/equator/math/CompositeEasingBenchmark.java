@@ -0,0 +1,62 @@
+package net.krlite.equator.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Benchmarks {@link EasingFunctions.Combined} and
+ * {@link EasingFunctions.Concurred}.
+ */
+@State(Scope.Thread)
+public class CompositeEasingBenchmark {
+	private static final int SAMPLES = 1024;
+
+	/**
+	 * The number of segments in the {@link EasingFunctions.Combined}.
+	 */
+	@Param({"2", "8", "32"})
+	public int segments;
+
+	private EasingFunctions.Combined combined;
+	private EasingFunctions.Combined.Compiled compiled;
+	private EasingFunctions.Concurred concurred;
+	private final double[] progress = new double[SAMPLES];
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		for (int i = 0; i < SAMPLES; i++) progress[i] = random.nextDouble() * 1000;
+		combined = new EasingFunctions.Combined();
+		for (int i = 0; i < segments; i++) {
+			if (i % 2 == 0) combined.append(EasingFunctions.Quadratic::easeIn, 1 + i % 3);
+			else combined.appendNegate(EasingFunctions.Cubic::easeOut, 1 + i % 3);
+		}
+		compiled = combined.compile();
+		concurred = new EasingFunctions.Concurred(EasingFunctions.Sinusoidal::easeIn);
+	}
+
+	private double nextProgress() {
+		return progress[index++ & (SAMPLES - 1)];
+	}
+
+	@Benchmark
+	public double combined() {
+		return combined.apply(nextProgress(), 0, 1, 1000);
+	}
+
+	@Benchmark
+	public double combinedCompiled() {
+		return compiled.apply(nextProgress(), 0, 1, 1000);
+	}
+
+	@Benchmark
+	public double concurred() {
+		return concurred.apply(nextProgress(), 0, 1, 1000);
+	}
+}
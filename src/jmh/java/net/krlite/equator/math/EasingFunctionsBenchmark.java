@@ -0,0 +1,136 @@
+package net.krlite.equator.math;
+
+import net.krlite.equator.util.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Benchmarks every easing family of {@link EasingFunctions}, through
+ * both the {@link Timer} and the raw {@code double} overloads.
+ *
+ * @see LinearEasingBenchmark
+ */
+@State(Scope.Thread)
+public class EasingFunctionsBenchmark {
+	/**
+	 * An easing entry point taking a {@link Timer}.
+	 */
+	@FunctionalInterface
+	interface TimerEasing {
+		double apply(Timer timer, double shift);
+	}
+
+	private static final int SAMPLES = 1024;
+
+	@Param({"Quadratic", "Cubic", "Quartic", "Quintic", "Sinusoidal", "Exponential", "Circular", "Elastic", "Back", "Bounce"})
+	public String family;
+
+	@Param({"ease", "easeIn", "easeOut"})
+	public String variant;
+
+	private EasingFunctions.QuadDoubleFunction function;
+	private TimerEasing timerFunction;
+	private Timer timer;
+	private final double[] progress = new double[SAMPLES];
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		for (int i = 0; i < SAMPLES; i++) progress[i] = random.nextDouble() * 1000;
+		timer = new Timer(Long.MAX_VALUE >> 1);
+		function = function(family, variant);
+		timerFunction = timerFunction(family, variant);
+	}
+
+	private double nextProgress() {
+		return progress[index++ & (SAMPLES - 1)];
+	}
+
+	@Benchmark
+	public double raw() {
+		return function.apply(nextProgress(), 0, 1, 1000);
+	}
+
+	@Benchmark
+	public double timer() {
+		return timerFunction.apply(timer, 1);
+	}
+
+	static EasingFunctions.QuadDoubleFunction function(String family, String variant) {
+		return switch (family + "." + variant) {
+			case "Quadratic.ease" -> EasingFunctions.Quadratic::ease;
+			case "Quadratic.easeIn" -> EasingFunctions.Quadratic::easeIn;
+			case "Quadratic.easeOut" -> EasingFunctions.Quadratic::easeOut;
+			case "Cubic.ease" -> EasingFunctions.Cubic::ease;
+			case "Cubic.easeIn" -> EasingFunctions.Cubic::easeIn;
+			case "Cubic.easeOut" -> EasingFunctions.Cubic::easeOut;
+			case "Quartic.ease" -> EasingFunctions.Quartic::ease;
+			case "Quartic.easeIn" -> EasingFunctions.Quartic::easeIn;
+			case "Quartic.easeOut" -> EasingFunctions.Quartic::easeOut;
+			case "Quintic.ease" -> EasingFunctions.Quintic::ease;
+			case "Quintic.easeIn" -> EasingFunctions.Quintic::easeIn;
+			case "Quintic.easeOut" -> EasingFunctions.Quintic::easeOut;
+			case "Sinusoidal.ease" -> EasingFunctions.Sinusoidal::ease;
+			case "Sinusoidal.easeIn" -> EasingFunctions.Sinusoidal::easeIn;
+			case "Sinusoidal.easeOut" -> EasingFunctions.Sinusoidal::easeOut;
+			case "Exponential.ease" -> EasingFunctions.Exponential::ease;
+			case "Exponential.easeIn" -> EasingFunctions.Exponential::easeIn;
+			case "Exponential.easeOut" -> EasingFunctions.Exponential::easeOut;
+			case "Circular.ease" -> EasingFunctions.Circular::ease;
+			case "Circular.easeIn" -> EasingFunctions.Circular::easeIn;
+			case "Circular.easeOut" -> EasingFunctions.Circular::easeOut;
+			case "Elastic.ease" -> EasingFunctions.Elastic::ease;
+			case "Elastic.easeIn" -> EasingFunctions.Elastic::easeIn;
+			case "Elastic.easeOut" -> EasingFunctions.Elastic::easeOut;
+			case "Back.ease" -> EasingFunctions.Back::ease;
+			case "Back.easeIn" -> EasingFunctions.Back::easeIn;
+			case "Back.easeOut" -> EasingFunctions.Back::easeOut;
+			case "Bounce.ease" -> EasingFunctions.Bounce::ease;
+			case "Bounce.easeIn" -> EasingFunctions.Bounce::easeIn;
+			case "Bounce.easeOut" -> EasingFunctions.Bounce::easeOut;
+			default -> throw new IllegalArgumentException("Unknown easing: " + family + "." + variant);
+		};
+	}
+
+	static TimerEasing timerFunction(String family, String variant) {
+		return switch (family + "." + variant) {
+			case "Quadratic.ease" -> EasingFunctions.Quadratic::ease;
+			case "Quadratic.easeIn" -> EasingFunctions.Quadratic::easeIn;
+			case "Quadratic.easeOut" -> EasingFunctions.Quadratic::easeOut;
+			case "Cubic.ease" -> EasingFunctions.Cubic::ease;
+			case "Cubic.easeIn" -> EasingFunctions.Cubic::easeIn;
+			case "Cubic.easeOut" -> EasingFunctions.Cubic::easeOut;
+			case "Quartic.ease" -> EasingFunctions.Quartic::ease;
+			case "Quartic.easeIn" -> EasingFunctions.Quartic::easeIn;
+			case "Quartic.easeOut" -> EasingFunctions.Quartic::easeOut;
+			case "Quintic.ease" -> EasingFunctions.Quintic::ease;
+			case "Quintic.easeIn" -> EasingFunctions.Quintic::easeIn;
+			case "Quintic.easeOut" -> EasingFunctions.Quintic::easeOut;
+			case "Sinusoidal.ease" -> EasingFunctions.Sinusoidal::ease;
+			case "Sinusoidal.easeIn" -> EasingFunctions.Sinusoidal::easeIn;
+			case "Sinusoidal.easeOut" -> EasingFunctions.Sinusoidal::easeOut;
+			case "Exponential.ease" -> EasingFunctions.Exponential::ease;
+			case "Exponential.easeIn" -> EasingFunctions.Exponential::easeIn;
+			case "Exponential.easeOut" -> EasingFunctions.Exponential::easeOut;
+			case "Circular.ease" -> EasingFunctions.Circular::ease;
+			case "Circular.easeIn" -> EasingFunctions.Circular::easeIn;
+			case "Circular.easeOut" -> EasingFunctions.Circular::easeOut;
+			case "Elastic.ease" -> EasingFunctions.Elastic::ease;
+			case "Elastic.easeIn" -> EasingFunctions.Elastic::easeIn;
+			case "Elastic.easeOut" -> EasingFunctions.Elastic::easeOut;
+			case "Back.ease" -> EasingFunctions.Back::ease;
+			case "Back.easeIn" -> EasingFunctions.Back::easeIn;
+			case "Back.easeOut" -> EasingFunctions.Back::easeOut;
+			case "Bounce.ease" -> EasingFunctions.Bounce::ease;
+			case "Bounce.easeIn" -> EasingFunctions.Bounce::easeIn;
+			case "Bounce.easeOut" -> EasingFunctions.Bounce::easeOut;
+			default -> throw new IllegalArgumentException("Unknown easing: " + family + "." + variant);
+		};
+	}
+}
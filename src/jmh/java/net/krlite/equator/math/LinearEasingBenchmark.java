@@ -0,0 +1,46 @@
+package net.krlite.equator.math;
+
+import net.krlite.equator.util.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Benchmarks {@link EasingFunctions.Linear}, which only has the
+ * <code>ease</code> variant.
+ *
+ * @see EasingFunctionsBenchmark
+ */
+@State(Scope.Thread)
+public class LinearEasingBenchmark {
+	private static final int SAMPLES = 1024;
+
+	private Timer timer;
+	private final double[] progress = new double[SAMPLES];
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		for (int i = 0; i < SAMPLES; i++) progress[i] = random.nextDouble() * 1000;
+		timer = new Timer(Long.MAX_VALUE >> 1);
+	}
+
+	@Benchmark
+	public double raw() {
+		return EasingFunctions.Linear.ease(progress[index++ & (SAMPLES - 1)], 0, 1, 1000);
+	}
+
+	@Benchmark
+	public double percentage() {
+		return EasingFunctions.Linear.ease(progress[index++ & (SAMPLES - 1)] / 1000, 0, 1);
+	}
+
+	@Benchmark
+	public double timer() {
+		return EasingFunctions.Linear.ease(timer, 1);
+	}
+}
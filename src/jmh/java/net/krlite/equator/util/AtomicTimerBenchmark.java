@@ -0,0 +1,101 @@
+package net.krlite.equator.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the {@link AtomicTimer} against a <code>synchronized</code>
+ * wrapper of the {@link Timer}, shared by a single reader thread.
+ *
+ * @see Threads4
+ * @see Threads16
+ * @see Threads32
+ */
+@State(Scope.Benchmark)
+public class AtomicTimerBenchmark {
+	private AbstractTimer<?> atomic, synchronizedTimer, atomicStepping, synchronizedStepping;
+
+	@Setup
+	public void setup() {
+		atomic = new AtomicTimer(Long.MAX_VALUE);
+		synchronizedTimer = new SynchronizedTimer(Long.MAX_VALUE);
+		atomicStepping = new AtomicTimer(Long.MAX_VALUE);
+		atomicStepping.enterStepping();
+		synchronizedStepping = new SynchronizedTimer(Long.MAX_VALUE);
+		synchronizedStepping.enterStepping();
+	}
+
+	@Benchmark
+	public long atomicQueue() {
+		return atomic.queue();
+	}
+
+	@Benchmark
+	public long synchronizedQueue() {
+		return synchronizedTimer.queue();
+	}
+
+	@Benchmark
+	public long atomicSteppingQueue() {
+		return atomicStepping.queue();
+	}
+
+	@Benchmark
+	public long synchronizedSteppingQueue() {
+		return synchronizedStepping.queue();
+	}
+
+	@Threads(4)
+	public static class Threads4 extends AtomicTimerBenchmark {
+	}
+
+	@Threads(16)
+	public static class Threads16 extends AtomicTimerBenchmark {
+	}
+
+	@Threads(32)
+	public static class Threads32 extends AtomicTimerBenchmark {
+	}
+
+	/**
+	 * A {@link Timer} guarded by its own monitor.
+	 */
+	private static class SynchronizedTimer extends Timer {
+		private SynchronizedTimer(long lasting) {
+			super(lasting);
+		}
+
+		@Override
+		public synchronized void enterStepping() {
+			super.enterStepping();
+		}
+
+		@Override
+		public synchronized void quitStepping() {
+			super.quitStepping();
+		}
+
+		@Override
+		public synchronized void step(long step) {
+			super.step(step);
+		}
+
+		@Override
+		public synchronized long queueElapsed(boolean countStepping) {
+			return super.queueElapsed(countStepping);
+		}
+
+		@Override
+		public synchronized boolean isStepping() {
+			return super.isStepping();
+		}
+
+		@Override
+		public synchronized void reset() {
+			super.reset();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package net.krlite.equator.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the {@link Pusher} against the {@link CountingPusher}
+ * as a dirty flag pushed by many threads and pulled by one.
+ */
+@State(Scope.Group)
+public class PusherBenchmark {
+	private final Pusher pusher = new Pusher();
+	private final CountingPusher countingPusher = new CountingPusher();
+
+	@Benchmark
+	@Group("pusher")
+	@GroupThreads(15)
+	public void pusherPush() {
+		pusher.push();
+	}
+
+	@Benchmark
+	@Group("pusher")
+	public boolean pusherPull() {
+		return pusher.pull();
+	}
+
+	@Benchmark
+	@Group("countingPusher")
+	@GroupThreads(15)
+	public void countingPusherPush() {
+		countingPusher.push();
+	}
+
+	@Benchmark
+	@Group("countingPusher")
+	public long countingPusherPull() {
+		return countingPusher.pull();
+	}
+}
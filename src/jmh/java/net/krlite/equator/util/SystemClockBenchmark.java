@@ -0,0 +1,37 @@
+package net.krlite.equator.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the cached {@link SystemClock} against reading the
+ * system's internal clock directly.
+ */
+@State(Scope.Benchmark)
+public class SystemClockBenchmark {
+	@Benchmark
+	public long queue() {
+		return SystemClock.queue();
+	}
+
+	@Benchmark
+	public long queueElapsed() {
+		return SystemClock.queueElapsed();
+	}
+
+	@Benchmark
+	public long queueElapsedNanos() {
+		return SystemClock.queueElapsedNanos();
+	}
+
+	@Benchmark
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+
+	@Benchmark
+	public long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+}
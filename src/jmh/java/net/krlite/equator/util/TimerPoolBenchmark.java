@@ -0,0 +1,59 @@
+package net.krlite.equator.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * Compares querying a {@link TimerPool} in bulk against querying
+ * {@link Timer}s one by one.
+ */
+@State(Scope.Thread)
+public class TimerPoolBenchmark {
+	@Param({"1000", "100000"})
+	public int size;
+
+	private Timer[] timers;
+	private TimerPool pool;
+	private double[] out;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		timers = new Timer[size];
+		pool = new TimerPool(size);
+		out = new double[size];
+		for (int i = 0; i < size; i++) {
+			long lasting = 1 + random.nextInt(10000);
+			timers[i] = new Timer(lasting);
+			pool.allocate(lasting);
+		}
+	}
+
+	@Benchmark
+	public double[] timersAsPercentage() {
+		for (int i = 0; i < size; i++) out[i] = timers[i].queueAsPercentage();
+		return out;
+	}
+
+	@Benchmark
+	public double[] poolAsPercentage() {
+		pool.queueAllAsPercentage(out);
+		return out;
+	}
+
+	@Benchmark
+	public void timersFinished(Blackhole blackhole) {
+		for (int i = 0; i < size; i++) if (timers[i].isFinished()) blackhole.consume(i);
+	}
+
+	@Benchmark
+	public void poolFinished(Blackhole blackhole) {
+		pool.collectFinished(blackhole::consume);
+	}
+}
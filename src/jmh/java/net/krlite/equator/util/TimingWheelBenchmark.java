@@ -0,0 +1,34 @@
+package net.krlite.equator.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks scheduling and cancelling on a {@link TimingWheel}.
+ */
+@State(Scope.Benchmark)
+public class TimingWheelBenchmark {
+	private static final Runnable TASK = () -> {};
+
+	private TimingWheel wheel;
+
+	@Setup
+	public void setup() {
+		wheel = new TimingWheel(1, TimeUnit.MILLISECONDS);
+	}
+
+	@TearDown
+	public void tearDown() {
+		wheel.stop();
+	}
+
+	@Benchmark
+	public boolean scheduleAndCancel() {
+		return wheel.schedule(TASK, 10, TimeUnit.SECONDS).cancel();
+	}
+}
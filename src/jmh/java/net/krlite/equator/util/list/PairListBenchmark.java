@@ -0,0 +1,47 @@
+package net.krlite.equator.util.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the lookups of {@link PairList} by the first element.
+ */
+@State(Scope.Benchmark)
+public class PairListBenchmark {
+	@Param({"1000", "10000", "100000", "1000000"})
+	public int size;
+
+	private PairList<Integer, String> list;
+	private Integer present, absent;
+
+	@Setup
+	public void setup() {
+		list = new PairList<>();
+		for (int i = 0; i < size; i++) list.add(i, String.valueOf(i));
+		present = size / 2;
+		absent = -1;
+	}
+
+	@Benchmark
+	public boolean containsFirstPresent() {
+		return list.containsFirst(present);
+	}
+
+	@Benchmark
+	public boolean containsFirstAbsent() {
+		return list.containsFirst(absent);
+	}
+
+	@Benchmark
+	public int indexOfFirstPresent() {
+		return list.indexOfFirst(present);
+	}
+
+	@Benchmark
+	public int indexOfFirstAbsent() {
+		return list.indexOfFirst(absent);
+	}
+}
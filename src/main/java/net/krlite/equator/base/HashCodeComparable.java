@@ -1,37 +1,211 @@
 package net.krlite.equator.base;
 
+import net.krlite.equator.core.Specialization;
+import net.krlite.equator.core.Specializations;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
- * A class to compare objects by their field hash code.
+ * A class to compare objects by their field values.
+ * <br />
+ * The non-static, non-transient fields declared by the class
+ * and its superclasses below this class are compared, through
+ * method handles resolved once per class, or through the
+ * generated {@link Specialization} of classes marked with
+ * {@link net.krlite.equator.core.Specialized}. Subclasses whose
+ * fields never change may memoize the hash code by overriding
+ * {@link #memoizeHashCode()}.
  */
 public abstract class HashCodeComparable {
+	/**
+	 * The strategies of each class, resolved on first use.
+	 */
+	private static final ClassValue<Strategy> STRATEGIES = new ClassValue<>() {
+		@Override
+		protected Strategy computeValue(Class<?> type) {
+			return new Strategy(type);
+		}
+	};
+
+	/**
+	 * The memoized hash code, or <code>0</code> if not yet computed.
+	 * As with {@link String#hashCode()}, a single field keeps racy
+	 * reads safe, and a hash code of <code>0</code> is recomputed
+	 * on each call.
+	 */
+	private transient int hash;
+
+	/**
+	 * Whether to memoize the hash code on first computation.
+	 * Only override to return <code>true</code> if the compared
+	 * fields never change after construction.
+	 *
+	 * @return	{@code true} to memoize the hash code.
+	 * 			Otherwise {@code false}.
+	 */
+	protected boolean memoizeHashCode() {
+		return false;
+	}
+
 	/**
 	 * Compares this object to the specified object.
 	 *
 	 * @param o	the nullable object to compare this object
 	 *          against with.
-	 * @return	{@code true} if the specified object has
-	 * 			the same field hash code as this object.
-	 * 			Otherwise {@code false}.
+	 * @return	{@code true} if the specified object is of
+	 * 			the same class and has the same field values
+	 * 			as this object. Otherwise {@code false}.
 	 */
 	@Override
 	public boolean equals(@Nullable Object o) {
 		if (this == o) return true;
 		if (o == null || getClass() != o.getClass()) return false;
 		HashCodeComparable that = (HashCodeComparable) o;
-		return hashCode() == that.hashCode();
+		return hashCode() == that.hashCode() && STRATEGIES.get(getClass()).equals(this, that);
 	}
 
 	/**
-	 * Returns the hash code of this object, based on the fields.
+	 * Returns the hash code of this object, based on the field
+	 * values.
 	 *
 	 * @return	the hash code of this object.
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash((Object) getClass().getDeclaredFields());
+		int hash = this.hash;
+		if (hash == 0) {
+			hash = STRATEGIES.get(getClass()).hashCode(this);
+			if (memoizeHashCode()) this.hash = hash;
+		}
+		return hash;
+	}
+
+	/**
+	 * The field handles of a class to hash and compare its
+	 * instances with, or its generated specialization.
+	 */
+	private static final class Strategy {
+		private final @Nullable Specialization<Object> specialization;
+
+		/**
+		 * The handles of <code>(Object) int</code> to hash each field.
+		 */
+		private final MethodHandle[] hashers;
+
+		/**
+		 * The handles of <code>(Object, Object) boolean</code> to
+		 * compare each field.
+		 */
+		private final MethodHandle[] comparators;
+
+		private Strategy(Class<?> type) {
+			this.specialization = Specializations.of(type);
+			if (specialization != null) {
+				this.hashers = this.comparators = new MethodHandle[0];
+				return;
+			}
+			List<MethodHandle> hashers = new ArrayList<>(), comparators = new ArrayList<>();
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			List<Class<?>> hierarchy = new ArrayList<>();
+			for (Class<?> c = type; c != null && c != HashCodeComparable.class; c = c.getSuperclass()) hierarchy.add(0, c);
+			try {
+				for (Class<?> c : hierarchy) {
+					for (Field field : c.getDeclaredFields()) {
+						if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) continue;
+						field.setAccessible(true);
+						Class<?> fieldType = field.getType();
+						MethodHandle getter = lookup.unreflectGetter(field).asType(MethodType.methodType(fieldType, Object.class));
+						hashers.add(MethodHandles.filterReturnValue(getter, hasher(lookup, fieldType)));
+						comparators.add(MethodHandles.filterArguments(comparator(lookup, fieldType), 0, getter, getter));
+					}
+				}
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+			this.hashers = hashers.toArray(new MethodHandle[0]);
+			this.comparators = comparators.toArray(new MethodHandle[0]);
+		}
+
+		private static MethodHandle hasher(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+			if (!type.isPrimitive()) return lookup.findStatic(Objects.class, "hashCode", MethodType.methodType(int.class, Object.class));
+			return lookup.findStatic(MethodType.methodType(type).wrap().returnType(), "hashCode", MethodType.methodType(int.class, type));
+		}
+
+		private static MethodHandle comparator(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+			Class<?> parameter = type.isPrimitive() ? type : Object.class;
+			return lookup.findStatic(Strategy.class, "same", MethodType.methodType(boolean.class, parameter, parameter))
+						   .asType(MethodType.methodType(boolean.class, type, type));
+		}
+
+		private int hashCode(@NotNull Object object) {
+			if (specialization != null) return specialization.hashCode(object);
+			try {
+				int result = 1;
+				for (MethodHandle hasher : hashers) result = 31 * result + (int) hasher.invokeExact(object);
+				return result;
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
+		}
+
+		private boolean equals(@NotNull Object object, @NotNull Object another) {
+			if (specialization != null) return specialization.equals(object, another);
+			try {
+				for (MethodHandle comparator : comparators)
+					if (!(boolean) comparator.invokeExact(object, another)) return false;
+				return true;
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
+		}
+
+		private static boolean same(Object a, Object b) {
+			return Objects.equals(a, b);
+		}
+
+		private static boolean same(boolean a, boolean b) {
+			return a == b;
+		}
+
+		private static boolean same(byte a, byte b) {
+			return a == b;
+		}
+
+		private static boolean same(short a, short b) {
+			return a == b;
+		}
+
+		private static boolean same(char a, char b) {
+			return a == b;
+		}
+
+		private static boolean same(int a, int b) {
+			return a == b;
+		}
+
+		private static boolean same(long a, long b) {
+			return a == b;
+		}
+
+		private static boolean same(float a, float b) {
+			return Float.compare(a, b) == 0;
+		}
+
+		private static boolean same(double a, double b) {
+			return Double.compare(a, b) == 0;
+		}
 	}
 }
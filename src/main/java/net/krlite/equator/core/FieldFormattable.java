@@ -1,10 +1,10 @@
 package net.krlite.equator.core;
 
-import java.util.Arrays;
-import java.util.Objects;
-
 /**
  * A class that formats fields in a way which is easy to read.
+ * The declared fields are resolved once per class, and classes
+ * marked with {@link Specialized} are formatted by their
+ * generated {@link Specialization} instead of reflection.
  */
 public interface FieldFormattable {
 	/**
@@ -15,18 +15,7 @@ public interface FieldFormattable {
 	 * @return				The formatted fields as string.
 	 */
 	default String formatFields(boolean fieldNames, String... excluded) {
-		return Arrays.stream(getClass().getDeclaredFields())
-					   .peek(field -> field.setAccessible(true))
-					   .filter(field -> Arrays.stream(excluded).noneMatch(e -> e.equals(field.getName())))
-					   .map(field -> {
-						   try {
-							   return (fieldNames ? field.getName() + "=" : "") + field.get(this);
-						   } catch (IllegalAccessException illegalAccessException) {
-							   illegalAccessException.printStackTrace();
-						   }
-						   return null;
-					   }).filter(Objects::nonNull)
-					   .reduce((f1, f2) -> f1 + ", " + f2).orElse("");
+		return FieldPlan.of(getClass()).format(this, fieldNames, excluded);
 	}
 
 	/**
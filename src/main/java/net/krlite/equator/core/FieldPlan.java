@@ -0,0 +1,114 @@
+package net.krlite.equator.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The accessors of the declared fields of a class, resolved once
+ * per class, to format its instances for {@link FieldFormattable}.
+ * Uses the generated {@link Specialization} instead if any.
+ */
+final class FieldPlan {
+	private static final ClassValue<FieldPlan> PLANS = new ClassValue<>() {
+		@Override
+		protected FieldPlan computeValue(Class<?> type) {
+			return new FieldPlan(type);
+		}
+	};
+
+	private final @Nullable Specialization<Object> specialization;
+
+	/**
+	 * The names of the fields, and the names followed by
+	 * <code>=</code>.
+	 */
+	private final String[] names, prefixes;
+
+	/**
+	 * The handles of <code>(Object) Object</code> to get each field.
+	 */
+	private final MethodHandle[] getters;
+
+	/**
+	 * The indices of the fields by name.
+	 */
+	private final Map<String, Integer> indices = new HashMap<>();
+
+	private FieldPlan(Class<?> type) {
+		this.specialization = Specializations.of(type);
+		Field[] fields = specialization != null ? new Field[0] : type.getDeclaredFields();
+		this.names = new String[fields.length];
+		this.prefixes = new String[fields.length];
+		this.getters = new MethodHandle[fields.length];
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		for (int i = 0; i < fields.length; i++) {
+			Field field = fields[i];
+			field.setAccessible(true);
+			names[i] = field.getName();
+			prefixes[i] = field.getName() + "=";
+			indices.put(field.getName(), i);
+			try {
+				MethodHandle getter = lookup.unreflectGetter(field);
+				// Static fields take no receiver
+				if (Modifier.isStatic(field.getModifiers())) getter = MethodHandles.dropArguments(getter, 0, Object.class);
+				getters[i] = getter.asType(MethodType.methodType(Object.class, Object.class));
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * Gets the plan of a class.
+	 *
+	 * @param type	The class.
+	 * @return		The plan.
+	 */
+	static @NotNull FieldPlan of(@NotNull Class<?> type) {
+		return PLANS.get(type);
+	}
+
+	/**
+	 * Formats the fields of an object in a single pass.
+	 *
+	 * @param object		The object.
+	 * @param fieldNames	Whether to include the field names.
+	 * @param excluded		The names of the fields to exclude.
+	 * @return				The formatted fields as string.
+	 */
+	@NotNull String format(@NotNull Object object, boolean fieldNames, String... excluded) {
+		if (specialization != null) return specialization.formatFields(object, fieldNames, excluded);
+		boolean[] skipped = null;
+		for (String e : excluded) {
+			Integer index = indices.get(e);
+			if (index != null) {
+				if (skipped == null) skipped = new boolean[names.length];
+				skipped[index] = true;
+			}
+		}
+		StringBuilder builder = new StringBuilder();
+		boolean separate = false;
+		for (int i = 0; i < getters.length; i++) {
+			if (skipped != null && skipped[i]) continue;
+			if (separate) builder.append(", ");
+			if (fieldNames) builder.append(prefixes[i]);
+			try {
+				builder.append((Object) getters[i].invokeExact(object));
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
+			separate = true;
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,58 @@
+package net.krlite.equator.core;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Straight-line implementations of the field-based operations
+ * of a class, generated for the classes marked with
+ * {@link Specialized}. Each behaves the same as its reflective
+ * counterpart.
+ *
+ * @param <T>	The type of the objects.
+ * @see Specializations
+ */
+public interface Specialization<T> {
+	/**
+	 * Hashes the field values of an object.
+	 *
+	 * @param object	The object.
+	 * @return			The hash code.
+	 * @see net.krlite.equator.base.HashCodeComparable#hashCode()
+	 */
+	int hashCode(@NotNull T object);
+
+	/**
+	 * Compares the field values of two objects of the class.
+	 *
+	 * @param object	The object.
+	 * @param another	The object to compare against.
+	 * @return			<code>true</code> if all field values are
+	 * 					equal, otherwise <code>false</code>.
+	 * @see net.krlite.equator.base.HashCodeComparable#equals(Object)
+	 */
+	boolean equals(@NotNull T object, @NotNull T another);
+
+	/**
+	 * Formats the fields of an object in a way which is easy to read.
+	 *
+	 * @param object		The object.
+	 * @param fieldNames	Whether to include the field names.
+	 * @param excluded		The names of the fields to exclude.
+	 * @return				The formatted fields as string.
+	 * @see FieldFormattable#formatFields(boolean, String...)
+	 */
+	@NotNull String formatFields(@NotNull T object, boolean fieldNames, String... excluded);
+
+	/**
+	 * Checks whether a field is excluded.
+	 *
+	 * @param name		The name of the field.
+	 * @param excluded	The names of the fields to exclude.
+	 * @return			<code>true</code> if excluded,
+	 * 					otherwise <code>false</code>.
+	 */
+	static boolean isExcluded(@NotNull String name, String... excluded) {
+		for (String e : excluded) if (e.equals(name)) return true;
+		return false;
+	}
+}
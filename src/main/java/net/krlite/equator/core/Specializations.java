@@ -0,0 +1,58 @@
+package net.krlite.equator.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Resolves the generated {@link Specialization}s of the classes
+ * marked with {@link Specialized}, once per class.
+ * <br />
+ * The specialization of <code>pkg.Outer$Inner</code> is the class
+ * <code>pkg.Outer_Inner_Specialization</code>.
+ */
+public class Specializations {
+	/**
+	 * The suffix of the names of generated specializations.
+	 */
+	public static final String SUFFIX = "_Specialization";
+
+	private static final ClassValue<Optional<Specialization<Object>>> SPECIALIZATIONS = new ClassValue<>() {
+		@Override
+		@SuppressWarnings("unchecked")
+		protected Optional<Specialization<Object>> computeValue(Class<?> type) {
+			try {
+				Class<?> specialization = Class.forName(nameOf(type.getName()), true, type.getClassLoader());
+				if (!Specialization.class.isAssignableFrom(specialization)) return Optional.empty();
+				return Optional.of((Specialization<Object>) specialization.getConstructor().newInstance());
+			} catch (ClassNotFoundException | LinkageError e) {
+				return Optional.empty();
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	};
+
+	/**
+	 * Gets the name of the specialization of a class.
+	 *
+	 * @param binaryName	The binary name of the class.
+	 * @return				The binary name of the specialization.
+	 */
+	public static @NotNull String nameOf(@NotNull String binaryName) {
+		int dot = binaryName.lastIndexOf('.');
+		return binaryName.substring(0, dot + 1) + binaryName.substring(dot + 1).replace('$', '_') + SUFFIX;
+	}
+
+	/**
+	 * Gets the generated specialization of a class.
+	 *
+	 * @param type	The class.
+	 * @return		The specialization, or <code>null</code> if
+	 * 				none is generated for the class.
+	 */
+	public static @Nullable Specialization<Object> of(@NotNull Class<?> type) {
+		return SPECIALIZATIONS.get(type).orElse(null);
+	}
+}
@@ -0,0 +1,31 @@
+package net.krlite.equator.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class to have its {@link Specialization} generated at
+ * compile time, which {@link FieldFormattable} and
+ * {@link net.krlite.equator.base.HashCodeComparable} pick up
+ * instead of reflection.
+ * <br />
+ * Only applies to the exact class marked. The fields read must
+ * be accessible from the package of the class.
+ * <br />
+ * The specialization is generated by the
+ * <code>net.krlite:equator-utils-processor</code> artifact, which
+ * must be on the annotation processor path of the marked class,
+ * e.g. <code>annotationProcessor "net.krlite:equator-utils-processor"</code>
+ * in Gradle. Without it, the class silently falls back to
+ * reflection.
+ *
+ * @see Specializations
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Specialized {
+}
@@ -0,0 +1,200 @@
+package net.krlite.equator.math;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * <h2>Baked Easing</h2>
+ * An easing curve sampled into a normalized lookup table, which
+ * evaluates by interpolating the table instead of calling the
+ * source function. The percentage is clamped into [0, 1].
+ *
+ * @see EasingFunctions.QuadDoubleFunction
+ */
+public class BakedEasing implements EasingFunctions.MultiFunctionable {
+	/**
+	 * The interpolation between two samples.
+	 */
+	public enum Interpolation {
+		/**
+		 * Linear interpolation, continuous in value.
+		 */
+		LINEAR,
+		/**
+		 * Cubic Hermite interpolation with Catmull-Rom tangents,
+		 * continuous in slope.
+		 */
+		HERMITE
+	}
+
+	/**
+	 * The default resolution, in samples.
+	 */
+	public static final int DEFAULT_RESOLUTION = 256;
+
+	/**
+	 * The points measured between every two samples when measuring
+	 * the maximum error.
+	 */
+	private static final int ERROR_SUBSAMPLES = 8;
+
+	/**
+	 * The sampled values, normalized to zero as the origin and one
+	 * as the shift.
+	 */
+	private final double[] values;
+
+	/**
+	 * The tangents at the samples, relative to the sample spacing.
+	 * Empty if the interpolation is linear.
+	 */
+	private final double[] tangents;
+
+	private final @NotNull Interpolation interpolation;
+
+	/**
+	 * The index of the last sample.
+	 */
+	private final int last;
+
+	/**
+	 * The measured maximum absolute error against the source function.
+	 */
+	private final double maxError;
+
+	/**
+	 * Bakes a {@link EasingFunctions.QuadDoubleFunction}.
+	 *
+	 * @param source		The function to bake, which should be
+	 *                      linear in its origin and shift.
+	 * @param resolution	The count of samples, at least 2.
+	 * @param interpolation	The {@link Interpolation} between samples.
+	 */
+	public BakedEasing(@NotNull EasingFunctions.QuadDoubleFunction source, int resolution, @NotNull Interpolation interpolation) {
+		if (resolution < 2) throw new IllegalArgumentException("Resolution must be at least 2, got " + resolution);
+		this.interpolation = interpolation;
+		this.last = resolution - 1;
+		this.values = new double[resolution];
+		for (int i = 0; i <= last; i++) values[i] = source.apply((double) i / last, 0, 1, 1);
+		this.tangents = interpolation == Interpolation.HERMITE ? new double[resolution] : new double[0];
+		if (interpolation == Interpolation.HERMITE) {
+			for (int i = 0; i <= last; i++) {
+				tangents[i] = i == 0 ? values[1] - values[0]
+									  : i == last ? values[last] - values[last - 1]
+														: (values[i + 1] - values[i - 1]) / 2;
+			}
+		}
+		this.maxError = measure(source);
+	}
+
+	/**
+	 * Bakes a {@link EasingFunctions.QuadDoubleFunction} with the cubic
+	 * Hermite interpolation.
+	 *
+	 * @param source		The function to bake.
+	 * @param resolution	The count of samples, at least 2.
+	 */
+	public BakedEasing(@NotNull EasingFunctions.QuadDoubleFunction source, int resolution) {
+		this(source, resolution, Interpolation.HERMITE);
+	}
+
+	/**
+	 * Bakes a {@link EasingFunctions.QuadDoubleFunction} with the default
+	 * resolution and the cubic Hermite interpolation.
+	 *
+	 * @param source	The function to bake.
+	 */
+	public BakedEasing(@NotNull EasingFunctions.QuadDoubleFunction source) {
+		this(source, DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * Measures the maximum absolute error between the samples.
+	 *
+	 * @param source	The baked function.
+	 * @return			The maximum absolute error.
+	 */
+	private double measure(EasingFunctions.QuadDoubleFunction source) {
+		double max = 0;
+		for (int i = 0; i < last; i++) {
+			for (int j = 1; j < ERROR_SUBSAMPLES; j++) {
+				double percentage = (i + (double) j / ERROR_SUBSAMPLES) / last;
+				max = Math.max(max, Math.abs(sample(percentage) - source.apply(percentage, 0, 1, 1)));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Interpolates the table.
+	 *
+	 * @param percentage	The percentage, clamped into [0, 1].
+	 * @return				The normalized value.
+	 */
+	private double sample(double percentage) {
+		if (!(percentage > 0)) return values[0];
+		if (percentage >= 1) return values[last];
+		double position = percentage * last;
+		int index = (int) position;
+		double t = position - index, from = values[index], to = values[index + 1];
+		if (interpolation == Interpolation.LINEAR) return from + (to - from) * t;
+		double t2 = t * t, t3 = t2 * t;
+		return (2 * t3 - 3 * t2 + 1) * from + (t3 - 2 * t2 + t) * tangents[index]
+					   + (-2 * t3 + 3 * t2) * to + (t3 - t2) * tangents[index + 1];
+	}
+
+	/**
+	 * Gets the count of samples.
+	 *
+	 * @return	The resolution.
+	 */
+	public int getResolution() {
+		return values.length;
+	}
+
+	/**
+	 * Gets the {@link Interpolation} between samples.
+	 *
+	 * @return	The {@link Interpolation}.
+	 */
+	public @NotNull Interpolation getInterpolation() {
+		return interpolation;
+	}
+
+	/**
+	 * Gets the maximum absolute error against the source function,
+	 * measured between the samples when baking, with zero as the
+	 * origin and one as the shift.
+	 *
+	 * @return	The maximum absolute error.
+	 */
+	public double getMaxError() {
+		return maxError;
+	}
+
+	/**
+	 * Applies the baked function to the given percentage, taking zero
+	 * as the origin and one as the shift.
+	 *
+	 * @param percentage	The percentage, clamped into [0, 1].
+	 * @return				The function result.
+	 */
+	@Override
+	public double apply(double percentage) {
+		return sample(percentage);
+	}
+
+	/**
+	 * Applies the baked function to the given arguments.
+	 *
+	 * @param progress	The progress of the operation, relative to the
+	 *                  duration.
+	 * @param origin	The origin of the operation.
+	 * @param shift		The shift of the operation.
+	 * @param duration	The duration of the operation.
+	 * @return			The function result.
+	 */
+	@Override
+	public double apply(double progress, double origin, double shift, double duration) {
+		return shift * sample(progress / duration) + origin;
+	}
+}
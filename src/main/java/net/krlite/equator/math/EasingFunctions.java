@@ -1,32 +1,50 @@
 package net.krlite.equator.math;
 
+import net.krlite.equator.util.AbstractTimer;
+import net.krlite.equator.util.Clock;
+import net.krlite.equator.util.FrameClock;
 import net.krlite.equator.util.SystemClock;
 import net.krlite.equator.util.Timer;
 import net.krlite.equator.util.list.PairList;
 import net.krlite.equator.util.pair.Pair;
 import org.jetbrains.annotations.NotNull;
-
-import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * <h2>Easing Functions</h2>
  * A class that provides different kinds of easing functions.
  */
 public class EasingFunctions {
-	protected interface MultiFunctionable {
+	/**
+	 * The kernels of the batch easing functions upon the
+	 * <code>jdk.incubator.vector</code> module, only present when the
+	 * module is added to the boot layer. Their results may differ from
+	 * the scalar easing functions by an ulp.
+	 */
+	private static final @Nullable EasingKernels VECTORIZED = EasingKernels.load();
+
+	protected interface MultiFunctionable extends QuadDoubleFunction {
 		double apply(double progress, double origin, double shift, double duration);
 
 		default double apply(double percentage) {
 			return apply(percentage, 0, 1, 1);
 		}
 
-		default double apply(Timer timer, double shift) {
+		default double apply(AbstractTimer<?> timer, double shift) {
 			return apply(timer.queue(), 0, shift, timer.getLasting());
 		}
 
-		default double apply(Timer timer) {
+		default double apply(AbstractTimer<?> timer) {
 			return apply(timer, 1);
 		}
+
+		default double apply(Timer timer, double shift) {
+			return apply((AbstractTimer<?>) timer, shift);
+		}
+
+		default double apply(Timer timer) {
+			return apply((AbstractTimer<?>) timer);
+		}
 	}
 
 	/**
@@ -64,29 +82,10 @@ public class EasingFunctions {
 		private @NotNull final PairList<QuadDoubleFunction, Integer> functions;
 
 		/**
-		 * Gets the total weight.
-		 *
-		 * @return	The total weight.
-		 */
-		private long getTotalWeight() {
-			return functions.stream().mapToInt(Pair::getSecond).sum();
-		}
-
-		/**
-		 * Queues the current {@link QuadDoubleFunction}.
-		 *
-		 * @param percentage	The percentage of the operation.
-		 * @return				The queued {@link QuadDoubleFunction}.
+		 * The cached {@link Compiled} form, invalidated on every
+		 * append.
 		 */
-		private QuadDoubleFunction current(double percentage) {
-			AtomicLong accumulatedWeight = new AtomicLong(0);
-			final long totalWeight = getTotalWeight();
-			final double percentageWeight = percentage * totalWeight;
-			return functions.stream().filter(entry -> accumulatedWeight.addAndGet(entry.getSecond()) >= percentageWeight)
-						   .findFirst().map(entry -> (QuadDoubleFunction) (p, o, s, d) ->
-											  entry.getFirst().apply((percentageWeight - (accumulatedWeight.get() - entry.getSecond())) / (entry.getSecond().doubleValue() / totalWeight), o, s, totalWeight)
-						   ).orElse(QuadDoubleFunction.NONE);
-		}
+		private @Nullable Compiled compiled;
 
 		/**
 		 * Creates a new {@link Combined} instance.
@@ -99,11 +98,15 @@ public class EasingFunctions {
 		 * Adds a {@link QuadDoubleFunction} to the {@link Combined}.
 		 *
 		 * @param function	The {@link QuadDoubleFunction} to add.
-		 * @param weight	The weight of the {@link QuadDoubleFunction}.
+		 * @param weight	The weight of the {@link QuadDoubleFunction}, must
+		 *                  not be negative.
 		 * @return			The {@link Combined} instance.
+		 * @throws IllegalArgumentException	If the weight is negative.
 		 */
 		public Combined append(@NotNull QuadDoubleFunction function, int weight) {
+			if (weight < 0) throw new IllegalArgumentException("Weight must not be negative, got " + weight);
 			functions.add(new Pair<>(function, weight));
+			compiled = null;
 			return this;
 		}
 
@@ -112,13 +115,28 @@ public class EasingFunctions {
 		 *
 		 * @param function	The {@link QuadDoubleFunction} to add, which will
 		 *                  be negated.
-		 * @param weight	The weight of the {@link QuadDoubleFunction}.
+		 * @param weight	The weight of the {@link QuadDoubleFunction}, must
+		 *                  not be negative.
 		 * @return			The {@link Combined} instance.
+		 * @throws IllegalArgumentException	If the weight is negative.
 		 */
 		public Combined appendNegate(@NotNull QuadDoubleFunction function, int weight) {
 			return append((p, o, s, d) -> function.apply(p, o + s, -s, d), weight);
 		}
 
+		/**
+		 * Compiles the {@link Combined} into an immutable, allocation-free
+		 * form. Later appends do not affect the compiled form.
+		 *
+		 * @return	The {@link Compiled} form.
+		 * @throws IllegalArgumentException	If any weight is negative.
+		 */
+		public Compiled compile() {
+			Compiled compiled = this.compiled;
+			if (compiled == null) this.compiled = compiled = new Compiled(functions);
+			return compiled;
+		}
+
 		/**
 		 * Applies the function to the given arguments.
 		 *
@@ -130,7 +148,111 @@ public class EasingFunctions {
 		 * @return			The function result.
 		 */
 		public double apply(double progress, double origin, double shift, double duration) {
-			return current(progress / duration).apply(progress, origin, shift, duration);
+			return compile().apply(progress, origin, shift, duration);
+		}
+
+		/**
+		 * The compiled form of a {@link Combined}, storing the functions and
+		 * the cumulative weights in flat arrays. The segment is found by a
+		 * binary search over the cumulative weights, short-circuited by the
+		 * last segment found when the progress only moves forward.
+		 */
+		public static final class Compiled implements MultiFunctionable {
+			/**
+			 * The {@link QuadDoubleFunction}s, in order.
+			 */
+			private final QuadDoubleFunction[] functions;
+
+			/**
+			 * The weights of the {@link QuadDoubleFunction}s.
+			 */
+			private final long[] weights;
+
+			/**
+			 * The cumulative weights, where <code>cumulative[i]</code> is
+			 * the sum of the weights up to and including <code>i</code>.
+			 */
+			private final long[] cumulative;
+
+			/**
+			 * The total weight.
+			 */
+			private final long totalWeight;
+
+			/**
+			 * The index of the last segment found. Racy but benign, as it
+			 * is only a hint and is always verified before use.
+			 */
+			private int hint;
+
+			private Compiled(PairList<QuadDoubleFunction, Integer> functions) {
+				int size = functions.size();
+				this.functions = new QuadDoubleFunction[size];
+				this.weights = new long[size];
+				this.cumulative = new long[size];
+				long accumulated = 0;
+				for (int i = 0; i < size; i++) {
+					Pair<QuadDoubleFunction, Integer> entry = functions.get(i);
+					this.functions[i] = entry.getFirst();
+					this.weights[i] = entry.getSecond();
+					this.cumulative[i] = accumulated += entry.getSecond();
+				}
+				this.totalWeight = accumulated;
+			}
+
+			/**
+			 * Gets the total weight.
+			 *
+			 * @return	The total weight.
+			 */
+			public long getTotalWeight() {
+				return totalWeight;
+			}
+
+			/**
+			 * Finds the first segment whose cumulative weight reaches the
+			 * weighted percentage.
+			 *
+			 * @param percentageWeight	The percentage multiplied by the
+			 *                          total weight.
+			 * @return					The index of the segment, or the
+			 * 							count of segments if none is found.
+			 */
+			private int segment(double percentageWeight) {
+				int hint = this.hint, size = cumulative.length;
+				for (int i = hint; i < hint + 2 && i < size; i++) {
+					if (cumulative[i] >= percentageWeight && (i == 0 || cumulative[i - 1] < percentageWeight)) {
+						if (i != hint) this.hint = i;
+						return i;
+					}
+				}
+				int low = 0, high = size;
+				while (low < high) {
+					int mid = (low + high) >>> 1;
+					if (cumulative[mid] >= percentageWeight) high = mid;
+					else low = mid + 1;
+				}
+				if (low < size) this.hint = low;
+				return low;
+			}
+
+			/**
+			 * Applies the function to the given arguments.
+			 *
+			 * @param progress	The progress of the operation, relative to the
+			 *                  duration.
+			 * @param origin	The origin of the operation.
+			 * @param shift		The shift of the operation.
+			 * @param duration	The duration of the operation.
+			 * @return			The function result.
+			 */
+			public double apply(double progress, double origin, double shift, double duration) {
+				final double percentageWeight = progress / duration * totalWeight;
+				final int index = segment(percentageWeight);
+				if (index == functions.length) return 0;
+				final long weight = weights[index];
+				return functions[index].apply((percentageWeight - (cumulative[index] - weight)) / ((double) weight / totalWeight), origin, shift, totalWeight);
+			}
 		}
 	}
 
@@ -199,6 +321,38 @@ public class EasingFunctions {
 		return pow(value, 2);
 	}
 
+	/**
+	 * Checks that the arrays of a batch have the same length.
+	 *
+	 * @param progress	The progresses.
+	 * @param origin	The original values.
+	 * @param shift		The distances to shift the values.
+	 * @param out		The array to store the eased values.
+	 * @return			The length of the batch.
+	 */
+	private static int length(double[] progress, double[] origin, double[] shift, double[] out) {
+		return length(progress.length, origin.length, shift.length, out.length);
+	}
+
+	/**
+	 * Checks that the arrays of a batch have the same length.
+	 *
+	 * @param progress	The progresses.
+	 * @param origin	The original values.
+	 * @param shift		The distances to shift the values.
+	 * @param out		The array to store the eased values.
+	 * @return			The length of the batch.
+	 */
+	private static int length(float[] progress, float[] origin, float[] shift, float[] out) {
+		return length(progress.length, origin.length, shift.length, out.length);
+	}
+
+	private static int length(int progress, int origin, int shift, int out) {
+		if (progress != out || origin != out || shift != out)
+			throw new IllegalArgumentException("Array lengths differ: progress " + progress + ", origin " + origin + ", shift " + shift + ", out " + out);
+		return out;
+	}
+
 	/**
 	 * Sinusoidal reciprocating function based on the
 	 * system time.
@@ -207,7 +361,19 @@ public class EasingFunctions {
 	 * @return 		The sinusoidal reciprocating value.
 	 */
 	public static double sin(double speed) {
-		return Math.sin(SystemClock.queueElapsed() * 0.001 * speed);
+		return sin(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Sinusoidal reciprocating function based on the
+	 * time of a {@link Clock}, such as a {@link FrameClock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The sinusoidal reciprocating value.
+	 */
+	public static double sin(@NotNull Clock clock, double speed) {
+		return Math.sin(clock.queueElapsedSeconds() * speed);
 	}
 
 	/**
@@ -228,7 +394,19 @@ public class EasingFunctions {
 	 * @return 		The cosine reciprocating value.
 	 */
 	public static double cos(double speed) {
-		return Math.cos(SystemClock.queueElapsed() * 0.001 * speed);
+		return cos(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Cosine reciprocating function based on the
+	 * time of a {@link Clock}, such as a {@link FrameClock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The cosine reciprocating value.
+	 */
+	public static double cos(@NotNull Clock clock, double speed) {
+		return Math.cos(clock.queueElapsedSeconds() * speed);
 	}
 
 	/**
@@ -249,7 +427,19 @@ public class EasingFunctions {
 	 * @return 		The tangent reciprocating value.
 	 */
 	public static double tan(double speed) {
-		return Math.tan(SystemClock.queueElapsed() * 0.001 * speed);
+		return tan(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Tangent reciprocating function based on the
+	 * time of a {@link Clock}, such as a {@link FrameClock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The tangent reciprocating value.
+	 */
+	public static double tan(@NotNull Clock clock, double speed) {
+		return Math.tan(clock.queueElapsedSeconds() * speed);
 	}
 
 	/**
@@ -270,7 +460,19 @@ public class EasingFunctions {
 	 * @return 		The sinusoidal reciprocating value.
 	 */
 	public static double sinPositive(double speed) {
-		return Math.abs(sin(speed));
+		return sinPositive(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Sinusoidal reciprocating function (absolute
+	 * value) based on the time of a {@link Clock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The sinusoidal reciprocating value.
+	 */
+	public static double sinPositive(@NotNull Clock clock, double speed) {
+		return Math.abs(sin(clock, speed));
 	}
 
 	/**
@@ -292,7 +494,19 @@ public class EasingFunctions {
 	 * @return 		The cosine reciprocating value.
 	 */
 	public static double cosPositive(double speed) {
-		return Math.abs(cos(speed));
+		return cosPositive(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Cosine reciprocating function (absolute value)
+	 * based on the time of a {@link Clock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The cosine reciprocating value.
+	 */
+	public static double cosPositive(@NotNull Clock clock, double speed) {
+		return Math.abs(cos(clock, speed));
 	}
 
 	/**
@@ -314,7 +528,19 @@ public class EasingFunctions {
 	 * @return 		The sinusoidal reciprocating value.
 	 */
 	public static double sinNormal(double speed) {
-		return sin(speed) / 2 + 0.5;
+		return sinNormal(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Sinusoidal reciprocating function (normal value
+	 * in [0, 1]) based on the time of a {@link Clock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The sinusoidal reciprocating value.
+	 */
+	public static double sinNormal(@NotNull Clock clock, double speed) {
+		return sin(clock, speed) / 2 + 0.5;
 	}
 
 	/**
@@ -336,7 +562,19 @@ public class EasingFunctions {
 	 * @return 		The cosine reciprocating value.
 	 */
 	public static double cosNormal(double speed) {
-		return cos(speed) / 2 + 0.5;
+		return cosNormal(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Cosine reciprocating function (normal value in
+	 * [0, 1]) based on the time of a {@link Clock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The cosine reciprocating value.
+	 */
+	public static double cosNormal(@NotNull Clock clock, double speed) {
+		return cos(clock, speed) / 2 + 0.5;
 	}
 
 	/**
@@ -358,7 +596,20 @@ public class EasingFunctions {
 	 * @return 		The tangent reciprocating value.
 	 */
 	public static double tanReciprocal(double speed) {
-		return 1 / tan(speed);
+		return tanReciprocal(SystemClock.Source.MILLIS, speed);
+	}
+
+	/**
+	 * Tangent reciprocating function (reciprocated,
+	 * divided by 1) based on the time of a
+	 * {@link Clock}.
+	 *
+	 * @param clock	The clock to read the time from.
+	 * @param speed The speed of the reciprocation.
+	 * @return 		The tangent reciprocating value.
+	 */
+	public static double tanReciprocal(@NotNull Clock clock, double speed) {
+		return 1 / tan(clock, speed);
 	}
 
 	/**
@@ -386,10 +637,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased linear value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queueAsPercentage(), 0, shift);
 		}
 
+		/**
+		 * <code>f(x)=x</code><br />
+		 * Linear easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased linear value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x</code><br />
 		 * Linear easing function, a simple version of
@@ -417,6 +680,42 @@ public class EasingFunctions {
 		public static double ease(double progress, double origin, double shift, double duration) {
 			return shift * (progress / duration) + origin;
 		}
+
+		/**
+		 * <code>f(x)=x</code><br />
+		 * Linear easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.linear(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x</code><br />
+		 * Linear easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -432,10 +731,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quadratic value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quadratic value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^2</code><br />
 		 * Quadratic easing function in taking zero as the origin.
@@ -444,10 +755,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quadratic value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quadratic value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^2</code><br />
 		 * Quadratic easing function out taking zero as the origin.
@@ -456,10 +779,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quadratic value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quadratic value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^2</code><br />
 		 * Quadratic easing function.
@@ -503,6 +838,114 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return -shift * (progress /= duration) * (progress - 2) + origin;
 		}
+
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quadratic(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quadraticIn(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quadraticOut(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^2</code><br />
+		 * Quadratic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -518,10 +961,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased cubic value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased cubic value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^3</code><br />
 		 * Cubic easing function in taking zero as the origin.
@@ -530,10 +985,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased cubic value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased cubic value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^3</code><br />
 		 * Cubic easing function out taking zero as the origin.
@@ -542,10 +1009,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased cubic value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased cubic value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^3</code><br />
 		 * Easing cubic function.
@@ -589,12 +1068,120 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return -shift * ((progress = progress / duration - 1) * pow(progress) + 1) + origin;
 		}
-	}
 
-	/**
-	 * Quartic easing function.
-	 * <code>f(x)=x^4</code>
-	 */
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.cubic(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.cubicIn(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.cubicOut(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^3</code><br />
+		 * Cubic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
+	}
+
+	/**
+	 * Quartic easing function.
+	 * <code>f(x)=x^4</code>
+	 */
 	public static class Quartic {
 		/**
 		 * <code>f(x)=x^4</code><br />
@@ -604,10 +1191,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quartic value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quartic value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^4</code><br />
 		 * Quartic easing function in taking zero as the origin.
@@ -616,10 +1215,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quartic value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quartic value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^4</code><br />
 		 * Quartic easing function out taking zero as the origin.
@@ -628,10 +1239,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quartic value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quartic value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^4</code><br />
 		 * Easing quartic function.
@@ -675,6 +1298,114 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return -shift * ((progress = progress / duration - 1) * pow(progress, 3) - 1) + origin;
 		}
+
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quartic(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quarticIn(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quarticOut(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^4</code><br />
+		 * Quartic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -690,10 +1421,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quintic value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quintic value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^5</code><br />
 		 * Quintic easing function in taking zero as the origin.
@@ -702,10 +1445,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quintic value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quintic value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^5</code><br />
 		 * Quintic easing function out taking zero as the origin.
@@ -714,10 +1469,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased quintic value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased quintic value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=x^5</code><br />
 		 * Easing quintic function.
@@ -761,6 +1528,114 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return -shift * (progress = progress / duration - 1) * pow(progress, 3) - 1 + origin;
 		}
+
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quintic(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quinticIn(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			if (VECTORIZED != null) {
+				VECTORIZED.quinticOut(progress, origin, shift, duration, out);
+				return;
+			}
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=x^5</code><br />
+		 * Quintic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -776,10 +1651,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased sinusoidal value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased sinusoidal value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=sin(x)</code><br />
 		 * Sinusoidal easing function in taking zero as the origin.
@@ -788,10 +1675,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased sinusoidal value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased sinusoidal value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=sin(x)</code><br />
 		 * Sinusoidal easing function out taking zero as the origin.
@@ -800,10 +1699,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased sinusoidal value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased sinusoidal value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=sin(x)</code><br />
 		 * Easing sinusoidal function.
@@ -845,6 +1756,102 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return shift * Math.cos(progress / duration) * (Math.PI / 2) + origin;
 		}
+
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sin(x)</code><br />
+		 * Sinusoidal easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -860,10 +1867,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased exponential value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased exponential value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=2^(10(x-1))</code><br />
 		 * Exponential easing function in taking zero as the origin.
@@ -872,10 +1891,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased exponential value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased exponential value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=2^(10(x-1))</code><br />
 		 * Exponential easing function out taking zero as the origin.
@@ -884,10 +1915,22 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased exponential value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased exponential value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * <code>f(x)=2^(10(x-1))</code><br />
 		 * Easing exponential function.
@@ -935,6 +1978,102 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return progress == duration ? origin + shift : shift * (-Math.pow(2, -10 * progress / duration) + 1) + origin;
 		}
+
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=2^(10(x-1))</code><br />
+		 * Exponential easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -950,20 +2089,56 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased circular value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
 		/**
 		 * <code>f(x)=sqrt(1-x^2)</code><br />
-		 * Circular easing function in taking zero as the origin.
+		 * Circular easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased circular value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased circular value.
+		 */
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
+			return easeIn(timer.queue(), 0, shift, timer.getLasting());
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased circular value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function out taking zero as the origin.
 		 *
 		 * @param timer The dedicated {@link Timer}.
 		 * @param shift The distance to shift the value.
 		 * @return The eased circular value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
-			return easeIn(timer.queue(), 0, shift, timer.getLasting());
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
+			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
 		/**
@@ -975,7 +2150,7 @@ public class EasingFunctions {
 		 * @return The eased circular value.
 		 */
 		public static double easeOut(@NotNull Timer timer, double shift) {
-			return easeOut(timer.queue(), 0, shift, timer.getLasting());
+			return easeOut((AbstractTimer<?>) timer, shift);
 		}
 
 		/**
@@ -1021,6 +2196,102 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return shift * Math.sqrt(1 - (progress = progress / duration - 1) * progress) + origin;
 		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * <code>f(x)=sqrt(1-x^2)</code><br />
+		 * Circular easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -1034,10 +2305,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased elastic value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Elastic easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased elastic value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Elastic easing function in taking zero as the origin.
 		 *
@@ -1045,10 +2327,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased elastic value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Elastic easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased elastic value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Elastic easing function out taking zero as the origin.
 		 *
@@ -1056,10 +2349,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased elastic value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Elastic easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased elastic value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Easing elastic function.
 		 *
@@ -1127,6 +2431,96 @@ public class EasingFunctions {
 			}
 			return a * Math.pow(2, 10 * progress) * Math.sin((progress * duration - s) * (2 * Math.PI) / p) + origin + shift;
 		}
+
+		/**
+		 * Elastic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Elastic easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Elastic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Elastic easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Elastic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Elastic easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -1140,10 +2534,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased back value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Back easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased back value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Back easing function in taking zero as the origin.
 		 *
@@ -1151,10 +2556,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased back value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Back easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased back value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Back easing function out taking zero as the origin.
 		 *
@@ -1162,10 +2578,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased back value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Back easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased back value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Easing back function.
 		 *
@@ -1206,6 +2633,96 @@ public class EasingFunctions {
 		public static double easeOut(double progress, double origin, double shift, double duration) {
 			return shift * ((progress = progress / duration - 1) * progress * (2.70158 * progress + 1.70158) + 1) + origin;
 		}
+
+		/**
+		 * Back easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Back easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Back easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Back easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Back easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Back easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 
 	/**
@@ -1219,10 +2736,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased bounce value.
 		 */
-		public static double ease(@NotNull Timer timer, double shift) {
+		public static double ease(@NotNull AbstractTimer<?> timer, double shift) {
 			return ease(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Bounce easing function taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased bounce value.
+		 */
+		public static double ease(@NotNull Timer timer, double shift) {
+			return ease((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Bounce easing function in taking zero as the origin.
 		 *
@@ -1230,10 +2758,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased bounce value.
 		 */
-		public static double easeIn(@NotNull Timer timer, double shift) {
+		public static double easeIn(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeIn(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Bounce easing function in taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased bounce value.
+		 */
+		public static double easeIn(@NotNull Timer timer, double shift) {
+			return easeIn((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Bounce easing function out taking zero as the origin.
 		 *
@@ -1241,10 +2780,21 @@ public class EasingFunctions {
 		 * @param shift The distance to shift the value.
 		 * @return The eased bounce value.
 		 */
-		public static double easeOut(@NotNull Timer timer, double shift) {
+		public static double easeOut(@NotNull AbstractTimer<?> timer, double shift) {
 			return easeOut(timer.queue(), 0, shift, timer.getLasting());
 		}
 
+		/**
+		 * Bounce easing function out taking zero as the origin.
+		 *
+		 * @param timer The dedicated {@link Timer}.
+		 * @param shift The distance to shift the value.
+		 * @return The eased bounce value.
+		 */
+		public static double easeOut(@NotNull Timer timer, double shift) {
+			return easeOut((AbstractTimer<?>) timer, shift);
+		}
+
 		/**
 		 * Easing bounce function.
 		 *
@@ -1293,5 +2843,95 @@ public class EasingFunctions {
 				return shift * (7.5625 * (progress -= (2.625 / 2.75)) * progress + 0.984375) + origin;
 			}
 		}
+
+		/**
+		 * Bounce easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Bounce easing function over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void ease(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) ease(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Bounce easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Bounce easing function in over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeIn(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeIn(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Bounce easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = easeOut(progress[i], origin[i], shift[i], duration);
+		}
+
+		/**
+		 * Bounce easing function out over arrays, writing into
+		 * <code>out</code>.
+		 *
+		 * @param progress Current progresses.
+		 * @param origin   The original values.
+		 * @param shift    The distances to shift the values.
+		 * @param duration The duration time.
+		 * @param out      The array to store the eased values.
+		 */
+		public static void easeOut(float[] progress, float[] origin, float[] shift, float duration, float[] out) {
+			int length = length(progress, origin, shift, out);
+			for (int i = 0; i < length; i++) out[i] = (float) easeOut(progress[i], origin[i], shift[i], duration);
+		}
 	}
 }
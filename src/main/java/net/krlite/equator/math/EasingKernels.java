@@ -0,0 +1,51 @@
+package net.krlite.equator.math;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The batch kernels of the polynomial easing functions, implemented
+ * upon the <code>jdk.incubator.vector</code> module in a separate
+ * source set, and only loaded when the module is present.
+ */
+interface EasingKernels {
+	/**
+	 * Loads the kernels if the <code>jdk.incubator.vector</code>
+	 * module is in the boot layer.
+	 *
+	 * @return	The kernels, or <code>null</code> if unavailable.
+	 */
+	static @Nullable EasingKernels load() {
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+		try {
+			return (EasingKernels) Class.forName("net.krlite.equator.math.VectorizedEasing").getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	void linear(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quadratic(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quadraticIn(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quadraticOut(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void cubic(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void cubicIn(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void cubicOut(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quartic(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quarticIn(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quarticOut(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quintic(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quinticIn(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+
+	void quinticOut(double[] progress, double[] origin, double[] shift, double duration, double[] out);
+}
@@ -0,0 +1,355 @@
+package net.krlite.equator.util;
+
+import net.krlite.equator.core.OperatableVoid;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * <h2>AbstractTimer</h2>
+ * The base of the timers, holding the clock and the lasting
+ * time, and deriving every query from the elapsed time. The
+ * origin time and the stepping mode are left to the subclasses,
+ * so each keeps only the state its threading model needs. All
+ * times are in the unit of its {@link Clock}.
+ *
+ * @param <T>	The type of the timer itself.
+ * @see Timer
+ * @see AtomicTimer
+ */
+public abstract class AbstractTimer<T extends AbstractTimer<T>> implements OperatableVoid<T, T> {
+	/**
+	 * The clock to count on.
+	 */
+	private final @NotNull Clock clock;
+
+	/**
+	 * The time to countdown, must be positive.
+	 */
+	private final long lasting;
+
+	/**
+	 * Creates a new timer counting on a clock.
+	 * @param lasting	The lasting time, in the unit of
+	 *                  the clock. Will take the absolute
+	 *                  value.
+	 * @param clock		The clock to count on.
+	 */
+	protected AbstractTimer(long lasting, @NotNull Clock clock) {
+		this.clock = clock;
+		this.lasting = Math.abs(lasting);
+	}
+
+	/**
+	 * Gets the lasting time of the timer.
+	 * @return	The lasting time.
+	 */
+	public long getLasting() {
+		return lasting;
+	}
+
+	/**
+	 * Gets the clock of the timer.
+	 * @return	The clock.
+	 */
+	public @NotNull Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Gets the timer itself, as its own type.
+	 * @return	The timer.
+	 */
+	protected abstract T self();
+
+	/**
+	 * Enters the stepping mode of the timer.
+	 */
+	public abstract void enterStepping();
+
+	/**
+	 * Exits the stepping mode of the timer.
+	 */
+	public abstract void quitStepping();
+
+	/**
+	 * Steps the timer if in stepping mode.
+	 *
+	 * @param step	The step to take.
+	 */
+	public abstract void step(long step);
+
+	/**
+	 *	Steps the timer by 1 if in stepping mode.
+	 */
+	public void step() {
+		step(1);
+	}
+
+	/**
+	 * Queues the elapsed time to the origin time,
+	 * ignores the lasting time.
+	 * @param countStepping	Whether to count this step
+	 *                      in the stepping mode.
+	 * @return				The time elapsed.
+	 */
+	public abstract long queueElapsed(boolean countStepping);
+
+	/**
+	 * Checks whether the timer is in the stepping mode.
+	 * @return	<code>true</code> if the timer is in
+	 * 			the stepping mode.
+	 * 			otherwise <code>false</code>.
+	 */
+	public abstract boolean isStepping();
+
+	/**
+	 * Resets the timer without changing the lasting
+	 * time.
+	 */
+	public abstract void reset();
+
+	/**
+	 * Queues the time to the origin time, won't exceed
+	 * the lasting time.
+	 * @param countStepping	Whether to count this step
+	 *                      in the stepping mode.
+	 * @return				The time.
+	 */
+	public long queue(boolean countStepping) {
+		return Math.min(queueElapsed(countStepping), lasting);
+	}
+
+	/**
+	 * Queues the time to the origin time as percentage.
+	 * @param countStepping	Whether to count this step
+	 *                      in the stepping mode.
+	 * @return				The time in the range of [0, 1].
+	 */
+	public double queueAsPercentage(boolean countStepping) {
+		return (double) queue(countStepping) / (double) lasting;
+	}
+
+	/**
+	 * Queues the time to the origin time, won't exceed
+	 * the lasting time.
+	 * @return	The time.
+	 */
+	public long queue() {
+		return queue(true);
+	}
+
+	/**
+	 * Queues the elapsed time to the origin time,
+	 * ignores the lasting time.
+	 * @return	The time elapsed.
+	 */
+	public long queueElapsed() {
+		return queueElapsed(true);
+	}
+
+	/**
+	 * Queues the time to the origin time as percentage.
+	 * @return	The time in the range of [0, 1].
+	 */
+	public double queueAsPercentage() {
+		return queueAsPercentage(true);
+	}
+
+	/**
+	 * Samples the timer from a single read of the clock,
+	 * filling a reusable sample.
+	 * @param sample		The sample to fill.
+	 * @param countStepping	Whether to count this step
+	 *                      in the stepping mode.
+	 * @return				The sample.
+	 */
+	public @NotNull TimerSample sample(@NotNull TimerSample sample, boolean countStepping) {
+		long elapsed = queueElapsed(countStepping);
+		sample.elapsed = elapsed;
+		sample.time = Math.min(elapsed, lasting);
+		sample.percentage = (double) sample.time / (double) lasting;
+		sample.present = elapsed >= 0 && elapsed <= lasting;
+		sample.finished = elapsed > lasting;
+		return sample;
+	}
+
+	/**
+	 * Samples the timer from a single read of the clock,
+	 * filling a reusable sample.
+	 * @param sample	The sample to fill.
+	 * @return			The sample.
+	 */
+	public @NotNull TimerSample sample(@NotNull TimerSample sample) {
+		return sample(sample, true);
+	}
+
+	/**
+	 * Checks whether the timer has reached the lasting
+	 * time limit, and runs the runnable if it has.
+	 * @param runnable	The runnable to be run if the
+	 *                  timer has reached the lasting
+	 *                  time limit.
+	 * @return			<code>true</code> if the timer
+	 * 					has reached the lasting time
+	 * 					limit, which means the timer
+	 * 					has already counted down, and
+	 * 					the runnable has been run.
+	 * 					otherwise <code>false</code>.
+	 */
+	public boolean run(Runnable runnable) {
+		if (isFinished()) {
+			runnable.run();
+			return true;
+		} else return false;
+	}
+
+	/**
+	 * Checks whether the timer has not reached the
+	 * lasting time limit.
+	 * @return	<code>true</code> if the timer has
+	 * 			not reached the lasting time limit,
+	 * 			which means the timer is still
+	 * 			counting.
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isPresent() {
+		long elapsed = queueElapsed();
+		return elapsed >= 0 && elapsed <= lasting;
+	}
+
+	/**
+	 * Checks whether the timer has reached the lasting
+	 * time limit.
+	 * @return	<code>true</code> if the timer has
+	 * 			reached the lasting time limit, which
+	 * 			means the timer has already counted
+	 * 			down.
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isFinished() {
+		return queueElapsed() > lasting;
+	}
+
+	/**
+	 * Gets a future completed with this timer once it has
+	 * reached the lasting time limit, without counting steps.
+	 * The shared {@link TimingWheel} schedules it, and
+	 * cancelling the future cancels the scheduled timeout.
+	 * <br />
+	 * When the timeout expires, the timer is checked again on
+	 * the common {@link ForkJoinPool}, and the future is only
+	 * completed there once {@link #isFinished()} holds,
+	 * otherwise the rest of the time is scheduled again. So
+	 * the future never completes early, dependent actions
+	 * never hold up the thread of the wheel, and resetting or
+	 * stepping the timer in the meantime defers the future.
+	 * Since the timer is read from the pool, a {@link Timer}
+	 * must not be changed while waited for, use an
+	 * {@link AtomicTimer} to do so.
+	 * @return	The future, already completed if the timer
+	 * 			has already counted down.
+	 * @throws UnsupportedOperationException	If the timer does
+	 * 											not count on a
+	 * 											{@link SystemClock.Source}.
+	 * @see TimingWheel#schedule(AbstractTimer, Runnable)
+	 */
+	public @NotNull CompletableFuture<T> onFinish() {
+		TimingWheel.checkRealTime(this);
+		CompletableFuture<T> future = new CompletableFuture<>();
+		AtomicReference<TimingWheel.Timeout> timeout = new AtomicReference<>();
+		finish(future, timeout);
+		future.whenComplete((timer, throwable) -> {
+			TimingWheel.Timeout scheduled = timeout.get();
+			if (scheduled != null) scheduled.cancel();
+		});
+		return future;
+	}
+
+	/**
+	 * Completes the future if the timer has finished, otherwise
+	 * schedules to check again once the rest of the time is up.
+	 * @param future	The future to complete.
+	 * @param timeout	The timeout scheduled last.
+	 */
+	private void finish(@NotNull CompletableFuture<T> future, @NotNull AtomicReference<TimingWheel.Timeout> timeout) {
+		if (future.isDone()) return;
+		if (queueElapsed(false) > lasting) {
+			future.complete(self());
+			return;
+		}
+		TimingWheel.Timeout scheduled = TimingWheel.instance().schedule(this,
+				() -> ForkJoinPool.commonPool().execute(() -> finish(future, timeout)));
+		timeout.set(scheduled);
+		// Cancelled while scheduling, after the future has cancelled the last timeout
+		if (future.isDone()) scheduled.cancel();
+	}
+
+	/**
+	 * Blocks until the timer has reached the lasting time
+	 * limit. Parks rather than spins, so it is cheap on
+	 * virtual threads.
+	 * @throws InterruptedException	If interrupted while
+	 * 								waiting.
+	 * @throws UnsupportedOperationException	If the timer does
+	 * 											not count on a
+	 * 											{@link SystemClock.Source}.
+	 * @see #onFinish()
+	 */
+	public void awaitFinish() throws InterruptedException {
+		CompletableFuture<T> future = onFinish();
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			future.cancel(false);
+			throw e;
+		} catch (ExecutionException | CancellationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Blocks until the timer has reached the lasting time
+	 * limit, or the waiting time elapses.
+	 * @param timeout	The maximum time to wait.
+	 * @param unit		The unit of the waiting time.
+	 * @return			<code>true</code> if the timer has
+	 * 					counted down, otherwise <code>false</code>
+	 * 					if the waiting time elapsed.
+	 * @throws InterruptedException	If interrupted while
+	 * 								waiting.
+	 * @throws UnsupportedOperationException	If the timer does
+	 * 											not count on a
+	 * 											{@link SystemClock.Source}.
+	 * @see #onFinish()
+	 */
+	public boolean awaitFinish(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+		CompletableFuture<T> future = onFinish();
+		try {
+			future.get(timeout, unit);
+			return true;
+		} catch (TimeoutException e) {
+			future.cancel(false);
+			return false;
+		} catch (InterruptedException e) {
+			future.cancel(false);
+			throw e;
+		} catch (ExecutionException | CancellationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public T operate(Consumer<T> operation) {
+		T self = self();
+		operation.accept(self);
+		return self;
+	}
+}
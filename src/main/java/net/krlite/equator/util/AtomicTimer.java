@@ -0,0 +1,169 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>AtomicTimer</h2>
+ * A thread-safe counterpart of {@link Timer}, which can be
+ * shared between threads without locking. The mutable state is packed into an
+ * immutable snapshot, swapped with <code>CAS</code>.
+ * <br />
+ * Reads outside the stepping mode are wait-free and never write.
+ * Resets, steps and counted reads in the stepping mode are
+ * lock-free and linearizable, and allocate a new snapshot.
+ */
+public class AtomicTimer extends AbstractTimer<AtomicTimer> {
+	private static final VarHandle STATE;
+
+	static {
+		try {
+			STATE = MethodHandles.lookup().findVarHandle(AtomicTimer.class, "state", State.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the mutable state of a timer.
+	 */
+	private static final class State {
+		/**
+		 * The time when the timer is started.
+		 */
+		private final long origin;
+
+		/**
+		 * The time elapsed at the timer's last step.
+		 */
+		private final long lastStep;
+
+		/**
+		 * The stepping mode of the timer.
+		 */
+		private final boolean stepping;
+
+		private State(long origin, long lastStep, boolean stepping) {
+			this.origin = origin;
+			this.lastStep = lastStep;
+			this.stepping = stepping;
+		}
+	}
+
+	private volatile @NotNull State state;
+
+	/**
+	 * Creates a new atomic timer counting on a clock, with the
+	 * origin time set to the current time of the clock.
+	 * @param lasting	The lasting time, in the unit of
+	 *                  the clock. Will take the absolute
+	 *                  value.
+	 * @param clock		The clock to count on.
+	 */
+	public AtomicTimer(long lasting, @NotNull Clock clock) {
+		super(lasting, clock);
+		this.state = new State(clock.queueElapsed(), 0, false);
+	}
+
+	/**
+	 * Creates a new atomic timer counting on a clock, with the
+	 * origin time set to the current time of the clock.
+	 * @param lasting	The lasting time. Will take the
+	 *                  absolute value.
+	 * @param unit		The unit of the lasting time.
+	 * @param clock		The clock to count on.
+	 */
+	public AtomicTimer(long lasting, @NotNull TimeUnit unit, @NotNull Clock clock) {
+		this(clock.getUnit().convert(lasting, unit), clock);
+	}
+
+	/**
+	 * Creates a new atomic timer counting on the monotonic
+	 * time in nanoseconds.
+	 * @param lasting	The lasting time. Will take the
+	 *                  absolute value.
+	 * @param unit		The unit of the lasting time.
+	 * @see SystemClock.Source#NANOS
+	 */
+	public AtomicTimer(long lasting, @NotNull TimeUnit unit) {
+		this(lasting, unit, SystemClock.Source.NANOS);
+	}
+
+	/**
+	 * Creates a new atomic timer counting on the system time
+	 * in milliseconds.
+	 * @param lasting	The lasting time, in milliseconds.
+	 *                  Will take the absolute value.
+	 * @see SystemClock.Source#MILLIS
+	 */
+	public AtomicTimer(long lasting) {
+		this(lasting, SystemClock.Source.MILLIS);
+	}
+
+	@Override
+	protected AtomicTimer self() {
+		return this;
+	}
+
+	private boolean swap(State expected, State state) {
+		return STATE.compareAndSet(this, expected, state);
+	}
+
+	@Override
+	public void enterStepping() {
+		State state;
+		do {
+			state = this.state;
+			if (state.stepping) return;
+		} while (!swap(state, new State(state.origin, getClock().queueElapsed() - state.origin, true)));
+	}
+
+	@Override
+	public void quitStepping() {
+		State state;
+		do {
+			state = this.state;
+			if (!state.stepping) return;
+		} while (!swap(state, new State(state.origin, state.lastStep, false)));
+	}
+
+	@Override
+	public void step(long step) {
+		State state;
+		do {
+			state = this.state;
+			if (!state.stepping) return;
+		} while (!swap(state, new State(state.origin, state.lastStep + step, true)));
+	}
+
+	@Override
+	public long queueElapsed(boolean countStepping) {
+		long now = getClock().queueElapsed();
+		State state = this.state;
+		if (!countStepping || !state.stepping) return now - state.origin;
+		long lastStep;
+		do {
+			lastStep = state.lastStep + 1;
+			if (swap(state, new State(now - lastStep, lastStep, true))) return lastStep;
+			state = this.state;
+		} while (state.stepping);
+		return now - state.origin;
+	}
+
+	@Override
+	public boolean isStepping() {
+		return state.stepping;
+	}
+
+	@Override
+	public void reset() {
+		long now = getClock().queueElapsed();
+		State state;
+		do {
+			state = this.state;
+		} while (!swap(state, new State(now, state.lastStep, state.stepping)));
+	}
+}
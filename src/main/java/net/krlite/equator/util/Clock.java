@@ -0,0 +1,33 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>Clock</h2>
+ * A source of elapsed time, which {@link Timer}s count on.
+ *
+ * @see SystemClock.Source
+ */
+public interface Clock {
+	/**
+	 * Queues the elapsed time since the origin time of this clock.
+	 * @return	The elapsed time, in the unit of this clock.
+	 */
+	long queueElapsed();
+
+	/**
+	 * Gets the unit of the time of this clock.
+	 * @return	The unit.
+	 */
+	@NotNull TimeUnit getUnit();
+
+	/**
+	 * Queues the elapsed time since the origin time of this clock.
+	 * @return	The elapsed time, in seconds.
+	 */
+	default double queueElapsedSeconds() {
+		return queueElapsed() * (getUnit().toNanos(1) / 1e9);
+	}
+}
@@ -0,0 +1,157 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h2>CountingPusher</h2>
+ * A pusher that counts the pushes since the last pull.
+ * Pushes are striped over padded cells by thread, so that
+ * producers rarely contend on the same cache line. As in
+ * {@link java.util.concurrent.atomic.LongAdder}, a thread that
+ * fails to update its cell moves on to another cell for its
+ * later pushes.
+ * <br />
+ * Every push is counted by exactly one pull. A pull drains the
+ * cells one by one, so pushes racing with a pull may be counted
+ * by the next pull instead.
+ *
+ * @see Pusher
+ */
+public class CountingPusher {
+	/**
+	 * The stride between cells, in <code>long</code>s, to keep
+	 * each cell on its own cache line.
+	 */
+	private static final int STRIDE = 16;
+
+	/**
+	 * The probe of each thread to pick its cell with, shared by
+	 * all counting pushers and never zero.
+	 */
+	private static final ThreadLocal<int[]> PROBE =
+			ThreadLocal.withInitial(() -> new int[] { System.identityHashCode(Thread.currentThread()) | 1 });
+
+	/**
+	 * The count of cells minus one.
+	 */
+	private final int mask;
+
+	/**
+	 * The padded cells of counts.
+	 */
+	private final @NotNull AtomicLongArray cells;
+
+	/**
+	 * Creates a new counting pusher.
+	 * @param stripes	The count of cells, rounded up to a
+	 *                  power of two.
+	 */
+	public CountingPusher(int stripes) {
+		int count = stripes <= 1 ? 1 : Integer.highestOneBit(Math.min(stripes, 1 << 16) - 1) << 1;
+		this.mask = count - 1;
+		this.cells = new AtomicLongArray(count * STRIDE);
+	}
+
+	/**
+	 * Creates a new counting pusher with a cell for each
+	 * available processor.
+	 */
+	public CountingPusher() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Gets the index of the cell of a probe.
+	 * @param probe	The probe.
+	 * @return		The index.
+	 */
+	private int cell(int probe) {
+		return ((probe ^ (probe >>> 16)) & mask) * STRIDE;
+	}
+
+	/**
+	 * Adds a count to the cell of the current thread. If the cell
+	 * is contended, rehashes the probe of the thread with a
+	 * xorshift, and adds to the new cell instead.
+	 * @param count	The count to add.
+	 */
+	private void add(long count) {
+		int[] probe = PROBE.get();
+		int index = cell(probe[0]);
+		long current = cells.get(index);
+		if (cells.compareAndSet(index, current, current + count)) return;
+		int rehashed = probe[0];
+		rehashed ^= rehashed << 13;
+		rehashed ^= rehashed >>> 17;
+		rehashed ^= rehashed << 5;
+		probe[0] = rehashed;
+		cells.getAndAdd(cell(rehashed), count);
+	}
+
+	/**
+	 * Pushes once.
+	 */
+	public void push() {
+		add(1);
+	}
+
+	/**
+	 * Pushes for a count of times.
+	 * @param count	The count of pushes, must not be negative.
+	 */
+	public void push(long count) {
+		if (count < 0) throw new IllegalArgumentException("Count must not be negative, got " + count);
+		if (count > 0) add(count);
+	}
+
+	/**
+	 * Pushes once, then runs the action.
+	 * @param action	The action to be run after pushed.
+	 */
+	public void push(@NotNull Runnable action) {
+		push();
+		action.run();
+	}
+
+	/**
+	 * Pulls and disposes the pushes. Cells without pushes are
+	 * only read, never written.
+	 * @return	The count of pushes since the last pull.
+	 */
+	public long pull() {
+		long count = 0;
+		for (int i = 0; i <= mask; i++) {
+			int index = i * STRIDE;
+			if (cells.get(index) != 0) count += cells.getAndSet(index, 0);
+		}
+		return count;
+	}
+
+	/**
+	 * Pulls and disposes the pushes, then runs the action if
+	 * any thread has pushed.
+	 * @param action	The action to be run after the pushes
+	 *                  are disposed.
+	 * @return			<code>true</code> if any thread has
+	 * 					pushed before last pull, otherwise
+	 * 					<code>false</code>.
+	 */
+	public boolean pull(@NotNull Runnable action) {
+		boolean pulled = pull() > 0;
+		if (pulled) action.run();
+		return pulled;
+	}
+
+	/**
+	 * Sums the pushes since the last pull without disposing
+	 * them.
+	 * @return	The count of pushes.
+	 */
+	public long peek() {
+		long count = 0;
+		for (int i = 0; i <= mask; i++) count += cells.get(i * STRIDE);
+		return count;
+	}
+}
@@ -0,0 +1,68 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+
+/**
+ * <h2>DoubleValuePusher</h2>
+ * The {@link ValuePusher} of <code>double</code> values without
+ * boxing. The slot holds the bits of the value, or a signalling
+ * <code>NaN</code> never pushed for empty, so pushes and pulls
+ * are single atomic operations. Pushed <code>NaN</code>s are
+ * pulled as {@link Double#NaN}.
+ *
+ * @see ValuePusher
+ */
+public class DoubleValuePusher {
+	/**
+	 * The bits of the empty slot, which
+	 * {@link Double#doubleToLongBits(double)} never returns.
+	 */
+	private static final long EMPTY = 0x7FF0000000000001L;
+
+	private final @NotNull AtomicLong bits = new AtomicLong(EMPTY);
+
+	/**
+	 * Pushes a value, overwriting any value not pulled yet.
+	 * @param value	The value.
+	 */
+	public void push(double value) {
+		bits.set(Double.doubleToLongBits(value));
+	}
+
+	/**
+	 * Pulls and disposes the newest value, then passes it to
+	 * the action if success.
+	 * @param action	The action to accept the value.
+	 * @return			<code>true</code> if any value is pushed
+	 * 					since last pull, otherwise
+	 * 					<code>false</code>.
+	 */
+	public boolean pull(@NotNull DoubleConsumer action) {
+		long pulled = bits.get() == EMPTY ? EMPTY : bits.getAndSet(EMPTY);
+		if (pulled != EMPTY) action.accept(Double.longBitsToDouble(pulled));
+		return pulled != EMPTY;
+	}
+
+	/**
+	 * Pulls and disposes the newest value.
+	 * @param other	The value to return if nothing is pushed.
+	 * @return		The value, or the other value if nothing
+	 * 				is pushed since last pull.
+	 */
+	public double pullOrElse(double other) {
+		long pulled = bits.get() == EMPTY ? EMPTY : bits.getAndSet(EMPTY);
+		return pulled == EMPTY ? other : Double.longBitsToDouble(pulled);
+	}
+
+	/**
+	 * Checks whether any value is pushed since last pull.
+	 * @return	<code>true</code> if pushed,
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isPushed() {
+		return bits.get() != EMPTY;
+	}
+}
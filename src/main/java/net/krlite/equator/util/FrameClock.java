@@ -0,0 +1,111 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>FrameClock</h2>
+ * A {@link Clock} driven by frames instead of a background thread.
+ * The time only changes when the host advances a frame, so every
+ * {@link Timer} and easing function reading this clock within a
+ * frame sees exactly the same time. All times are in nanoseconds.
+ * <br />
+ * A frame clock is meant to be confined to the thread driving the
+ * frames, and its fields are not volatile. Other threads need their
+ * own synchronization with that thread to read it.
+ */
+public class FrameClock implements Clock {
+	/**
+	 * The origin time of this clock in the monotonic time.
+	 */
+	private final long origin;
+
+	/**
+	 * The elapsed time at the current frame.
+	 */
+	private long elapsed;
+
+	/**
+	 * The time between the last two frames.
+	 */
+	private long delta;
+
+	/**
+	 * The count of frames advanced.
+	 */
+	private long frame;
+
+	/**
+	 * Creates a new frame clock with the origin time set to the
+	 * current monotonic time, at frame zero.
+	 */
+	public FrameClock() {
+		this.origin = SystemClock.queueNanos();
+	}
+
+	/**
+	 * Advances a frame, taking the current monotonic time as the
+	 * time of the frame.
+	 * @return	The count of frames advanced.
+	 */
+	public long advanceFrame() {
+		long now = SystemClock.queueNanos() - origin;
+		delta = now - elapsed;
+		elapsed = now;
+		return ++frame;
+	}
+
+	/**
+	 * Advances a frame by a fixed time, regardless of the monotonic
+	 * time.
+	 * @param delta	The time of the frame, must not be negative.
+	 * @param unit	The unit of the time.
+	 * @return		The count of frames advanced.
+	 */
+	public long advanceFrame(long delta, @NotNull TimeUnit unit) {
+		if (delta < 0) throw new IllegalArgumentException("Delta must not be negative, got " + delta);
+		this.delta = unit.toNanos(delta);
+		elapsed += this.delta;
+		return ++frame;
+	}
+
+	/**
+	 * Gets the count of frames advanced, which changes once per
+	 * frame and can invalidate per-frame caches.
+	 * @return	The count of frames advanced.
+	 */
+	public long getFrame() {
+		return frame;
+	}
+
+	/**
+	 * Gets the time between the last two frames.
+	 * @return	The time, in nanoseconds.
+	 */
+	public long getDelta() {
+		return delta;
+	}
+
+	/**
+	 * Gets the time between the last two frames.
+	 * @return	The time, in seconds.
+	 */
+	public double getDeltaSeconds() {
+		return delta / 1e9;
+	}
+
+	/**
+	 * Queues the elapsed time at the current frame.
+	 * @return	The elapsed time, in nanoseconds.
+	 */
+	@Override
+	public long queueElapsed() {
+		return elapsed;
+	}
+
+	@Override
+	public @NotNull TimeUnit getUnit() {
+		return TimeUnit.NANOSECONDS;
+	}
+}
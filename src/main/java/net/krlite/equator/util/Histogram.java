@@ -0,0 +1,145 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h2>Histogram</h2>
+ * A lock-free histogram of non-negative <code>long</code> values
+ * in power-of-two buckets, cheap enough to record on hot paths.
+ * Percentiles are accurate to within a factor of two, while the
+ * count, the sum and the maximum are exact.
+ */
+public class Histogram {
+	/**
+	 * The count of buckets. Bucket <code>0</code> holds zero, and
+	 * bucket <code>i</code> holds values in
+	 * <code>[2<sup>i-1</sup>, 2<sup>i</sup>)</code>, up to bucket
+	 * <code>63</code> for the largest non-negative values.
+	 */
+	public static final int BUCKETS = 64;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	private final AtomicLong sum = new AtomicLong(), max = new AtomicLong();
+
+	/**
+	 * Records a value.
+	 * @param value	The value. Negative values are recorded as zero.
+	 */
+	public void record(long value) {
+		value = Math.max(0, value);
+		buckets.getAndIncrement(bucket(value));
+		sum.getAndAdd(value);
+		long max;
+		while (value > (max = this.max.get()) && !this.max.compareAndSet(max, value)) Thread.onSpinWait();
+	}
+
+	/**
+	 * Takes a snapshot of the recorded values. Values recorded
+	 * while taking the snapshot may be partially counted.
+	 * @return	The snapshot.
+	 */
+	public @NotNull Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) counts[i] = buckets.get(i);
+		return new Snapshot(counts, sum.get(), max.get());
+	}
+
+	private static int bucket(long value) {
+		return 64 - Long.numberOfLeadingZeros(value);
+	}
+
+	/**
+	 * Gets the largest value a bucket holds.
+	 * @param bucket	The index of the bucket.
+	 * @return			The largest value.
+	 */
+	private static long upperBound(int bucket) {
+		return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+
+	/**
+	 * <h2>Snapshot</h2>
+	 * An immutable snapshot of a {@link Histogram}.
+	 */
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count, sum, max;
+
+		private Snapshot(long[] counts, long sum, long max) {
+			long count = 0;
+			for (long c : counts) count += c;
+			this.counts = counts;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		/**
+		 * Gets the count of recorded values.
+		 * @return	The count.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Gets the sum of recorded values.
+		 * @return	The sum.
+		 */
+		public long getSum() {
+			return sum;
+		}
+
+		/**
+		 * Gets the maximum recorded value.
+		 * @return	The maximum, <code>0</code> if empty.
+		 */
+		public long getMax() {
+			return max;
+		}
+
+		/**
+		 * Gets the mean of recorded values.
+		 * @return	The mean, <code>0</code> if empty.
+		 */
+		public double getMean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * Gets the count of values in a bucket.
+		 * @param bucket	The index of the bucket, in
+		 *                  <code>[0, {@link #BUCKETS})</code>.
+		 * @return			The count.
+		 */
+		public long getBucket(int bucket) {
+			return counts[bucket];
+		}
+
+		/**
+		 * Gets an upper bound of a percentile, the largest value
+		 * of the bucket it falls in, capped by the maximum.
+		 * @param percentile	The percentile, in <code>[0, 1]</code>.
+		 * @return				The upper bound, <code>0</code> if empty.
+		 */
+		public long getPercentile(double percentile) {
+			if (count == 0) return 0;
+			long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, percentile)) * count)), seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += counts[i];
+				if (seen >= rank) return Math.min(max, upperBound(i));
+			}
+			return max;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "{count=" + count + ", mean=" + getMean()
+					+ ", p50=" + getPercentile(0.5) + ", p99=" + getPercentile(0.99) + ", max=" + max + "}";
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * <h2>LongValuePusher</h2>
+ * The {@link ValuePusher} of <code>long</code> values without
+ * boxing. Every <code>long</code> is a valid value, so unlike
+ * {@link DoubleValuePusher} the empty slot is marked by a
+ * separate flag. A push writes the value, then sets the flag,
+ * and a pull clears the flag, then reads the value, so no step
+ * ever waits on another thread.
+ * <br />
+ * A pull never misses the newest value, but a push racing a
+ * pull may have its value taken early by that pull, and taken
+ * again by the next pull.
+ *
+ * @see ValuePusher
+ */
+public class LongValuePusher {
+	/**
+	 * The value pushed, valid if {@link #present} is set.
+	 */
+	private final @NotNull AtomicLong value = new AtomicLong();
+
+	/**
+	 * Whether a value is pushed since last pull.
+	 */
+	private final @NotNull AtomicBoolean present = new AtomicBoolean();
+
+	/**
+	 * Pushes a value, overwriting any value not pulled yet.
+	 * @param value	The value.
+	 */
+	public void push(long value) {
+		this.value.set(value);
+		present.set(true);
+	}
+
+	/**
+	 * Pulls and disposes the newest value, then passes it to
+	 * the action if success.
+	 * @param action	The action to accept the value.
+	 * @return			<code>true</code> if any value is pushed
+	 * 					since last pull, otherwise
+	 * 					<code>false</code>.
+	 */
+	public boolean pull(@NotNull LongConsumer action) {
+		if (!take()) return false;
+		action.accept(value.get());
+		return true;
+	}
+
+	/**
+	 * Pulls and disposes the newest value.
+	 * @param other	The value to return if nothing is pushed.
+	 * @return		The value, or the other value if nothing
+	 * 				is pushed since last pull.
+	 */
+	public long pullOrElse(long other) {
+		return take() ? value.get() : other;
+	}
+
+	/**
+	 * Checks whether any value is pushed since last pull.
+	 * @return	<code>true</code> if pushed,
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isPushed() {
+		return present.get();
+	}
+
+	/**
+	 * Clears the flag, which must come before reading the value,
+	 * so that the value read is at least as new as the push
+	 * whose flag is cleared.
+	 * @return	<code>true</code> if the flag was set.
+	 */
+	private boolean take() {
+		return present.get() && present.getAndSet(false);
+	}
+}
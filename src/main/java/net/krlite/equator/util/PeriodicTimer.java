@@ -0,0 +1,237 @@
+package net.krlite.equator.util;
+
+import net.krlite.equator.core.OperatableVoid;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <h2>PeriodicTimer</h2>
+ * A repeating timer whose cycles are computed from the origin
+ * time, so it never drifts however late it is polled. All times
+ * are in the unit of its {@link Clock}, which is milliseconds
+ * by default.
+ *
+ * @see Timer
+ */
+public class PeriodicTimer implements OperatableVoid<PeriodicTimer, PeriodicTimer> {
+	/**
+	 * The policies of firing the cycles missed between two polls.
+	 */
+	public enum Policy {
+		/**
+		 * Fires once for every missed cycle.
+		 */
+		FIRE_ALL,
+		/**
+		 * Fires once for all missed cycles.
+		 */
+		COALESCE,
+		/**
+		 * Drops the missed cycles without firing, and only fires
+		 * if no cycle was missed.
+		 */
+		SKIP
+	}
+
+	/**
+	 * The clock to count on.
+	 */
+	private final @NotNull Clock clock;
+
+	/**
+	 * The time of a cycle, must be positive.
+	 */
+	private final long period;
+
+	/**
+	 * The policy of firing the missed cycles.
+	 */
+	private final @NotNull Policy policy;
+
+	/**
+	 * The time when the timer is started.
+	 */
+	private long origin;
+
+	/**
+	 * The count of cycles handled by polls.
+	 */
+	private long cycles;
+
+	/**
+	 * Creates a new periodic timer counting on a clock, with the
+	 * origin time set to the current time of the clock.
+	 * @param period	The time of a cycle, in the unit of the
+	 *                  clock. Must be positive.
+	 * @param policy	The policy of firing the missed cycles.
+	 * @param clock		The clock to count on.
+	 */
+	public PeriodicTimer(long period, @NotNull Policy policy, @NotNull Clock clock) {
+		if (period <= 0) throw new IllegalArgumentException("Period must be positive, got " + period);
+		this.clock = clock;
+		this.period = period;
+		this.policy = policy;
+		this.origin = clock.queueElapsed();
+	}
+
+	/**
+	 * Creates a new periodic timer counting on a clock, with the
+	 * origin time set to the current time of the clock.
+	 * @param period	The time of a cycle. Must be positive, and
+	 *                  no shorter than the unit of the clock.
+	 * @param unit		The unit of the time of a cycle.
+	 * @param policy	The policy of firing the missed cycles.
+	 * @param clock		The clock to count on.
+	 */
+	public PeriodicTimer(long period, @NotNull TimeUnit unit, @NotNull Policy policy, @NotNull Clock clock) {
+		this(toClockUnit(period, unit, clock), policy, clock);
+	}
+
+	/**
+	 * Creates a new periodic timer counting on the monotonic time
+	 * in nanoseconds.
+	 * @param period	The time of a cycle. Must be positive.
+	 * @param unit		The unit of the time of a cycle.
+	 * @param policy	The policy of firing the missed cycles.
+	 * @see SystemClock.Source#NANOS
+	 */
+	public PeriodicTimer(long period, @NotNull TimeUnit unit, @NotNull Policy policy) {
+		this(period, unit, policy, SystemClock.Source.NANOS);
+	}
+
+	/**
+	 * Creates a new periodic timer counting on the system time in
+	 * milliseconds.
+	 * @param period	The time of a cycle, in milliseconds. Must
+	 *                  be positive.
+	 * @param policy	The policy of firing the missed cycles.
+	 * @see SystemClock.Source#MILLIS
+	 */
+	public PeriodicTimer(long period, @NotNull Policy policy) {
+		this(period, policy, SystemClock.Source.MILLIS);
+	}
+
+	/**
+	 * Creates a new periodic timer counting on the system time in
+	 * milliseconds, coalescing the missed cycles.
+	 * @param period	The time of a cycle, in milliseconds. Must
+	 *                  be positive.
+	 * @see Policy#COALESCE
+	 */
+	public PeriodicTimer(long period) {
+		this(period, Policy.COALESCE);
+	}
+
+	/**
+	 * Converts the time of a cycle to the unit of a clock, rejecting
+	 * times the conversion would truncate to zero.
+	 */
+	private static long toClockUnit(long period, @NotNull TimeUnit unit, @NotNull Clock clock) {
+		if (period <= 0) throw new IllegalArgumentException("Period must be positive, got " + period + " " + unit);
+		long converted = clock.getUnit().convert(period, unit);
+		if (converted <= 0) throw new IllegalArgumentException(
+				"Period of " + period + " " + unit + " is shorter than the clock unit " + clock.getUnit());
+		return converted;
+	}
+
+	/**
+	 * Gets the time of a cycle of the timer.
+	 * @return	The time of a cycle.
+	 */
+	public long getPeriod() {
+		return period;
+	}
+
+	/**
+	 * Gets the policy of firing the missed cycles.
+	 * @return	The policy.
+	 */
+	public @NotNull Policy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Gets the clock of the timer.
+	 * @return	The clock.
+	 */
+	public @NotNull Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Queues the elapsed time to the origin time.
+	 * @return	The time elapsed.
+	 */
+	public long queueElapsed() {
+		return clock.queueElapsed() - origin;
+	}
+
+	/**
+	 * Queues the count of cycles completed since the origin time.
+	 * @return	The count of cycles.
+	 */
+	public long queueCycle() {
+		return Math.floorDiv(queueElapsed(), period);
+	}
+
+	/**
+	 * Queues the time into the current cycle.
+	 * @return	The time, in the range of [0, period).
+	 */
+	public long queuePhase() {
+		return Math.floorMod(queueElapsed(), period);
+	}
+
+	/**
+	 * Queues the time into the current cycle as percentage.
+	 * @return	The time in the range of [0, 1).
+	 */
+	public double queuePhaseAsPercentage() {
+		return (double) queuePhase() / (double) period;
+	}
+
+	/**
+	 * Polls the cycles completed since the last poll, and
+	 * marks them as handled.
+	 * @return	The count of times to fire under the policy.
+	 */
+	public long poll() {
+		long cycle = queueCycle(), due = cycle - cycles;
+		if (due <= 0) return 0;
+		cycles = cycle;
+		return switch (policy) {
+			case FIRE_ALL -> due;
+			case COALESCE -> 1;
+			case SKIP -> due == 1 ? 1 : 0;
+		};
+	}
+
+	/**
+	 * Polls the timer, and runs the runnable for the count of
+	 * times to fire.
+	 * @param runnable	The runnable to run.
+	 * @return			The count of times run.
+	 * @see #poll()
+	 */
+	public long run(Runnable runnable) {
+		long fires = poll();
+		for (long i = 0; i < fires; i++) runnable.run();
+		return fires;
+	}
+
+	/**
+	 * Resets the timer, restarting the cycles from now on.
+	 */
+	public void reset() {
+		this.origin = clock.queueElapsed();
+		this.cycles = 0;
+	}
+
+	@Override
+	public PeriodicTimer operate(Consumer<PeriodicTimer> operation) {
+		operation.accept(this);
+		return this;
+	}
+}
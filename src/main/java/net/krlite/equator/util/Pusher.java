@@ -2,13 +2,24 @@ package net.krlite.equator.util;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * <h2>Pusher</h2>
  * An atomic class that can be used to set a disposable
  * flag and to trigger or run a action in a thread-safe
  * manner.
+ * <br />
+ * Consumers may also wait for a push, by parking in
+ * {@link #awaitPull()} or registering with
+ * {@link #onPush(Executor, Runnable)}. A push is handed to
+ * one waiter instead of setting the flag. Pushing without
+ * waiters never allocates.
  */
 public class Pusher {
 	/**
@@ -16,6 +27,11 @@ public class Pusher {
 	 */
 	private final @NotNull AtomicBoolean flag = new AtomicBoolean();
 
+	/**
+	 * The consumers waiting for a push, in arrival order.
+	 */
+	private final @NotNull ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
 	/**
 	 * Creates a new Pusher with a flag.
 	 * @param flag	The initial value of the disposable flag.
@@ -33,10 +49,37 @@ public class Pusher {
 	}
 
 	/**
-	 * Pushes the flag to <code>true</code>.
+	 * Pushes the flag to <code>true</code>. Always writes
+	 * the flag, even if already pushed, so that everything
+	 * written before the push is visible to the next pull.
 	 */
 	public void push() {
 		flag.set(true);
+		if (!waiters.isEmpty()) signal();
+	}
+
+	/**
+	 * Pushes to all consumers currently waiting, each of
+	 * them pulls as if pushed alone. Pushes the flag to
+	 * <code>true</code> if none is waiting.
+	 */
+	public void pushAll() {
+		boolean granted = false;
+		Waiter waiter;
+		while ((waiter = waiters.poll()) != null) granted |= waiter.grant();
+		if (!granted) push();
+	}
+
+	/**
+	 * Hands the flag to a waiter while both exist.
+	 */
+	private void signal() {
+		while (!waiters.isEmpty() && pull()) {
+			Waiter waiter;
+			boolean granted = false;
+			while (!granted && (waiter = waiters.poll()) != null) granted = waiter.grant();
+			if (!granted) flag.set(true);
+		}
 	}
 
 	/**
@@ -56,9 +99,10 @@ public class Pusher {
 	 * 			<code>true</code> if any thread has
 	 * 			pushed the flag before last pull,
 	 * 			otherwise <code>false</code>.
+	 * 			Only writes the flag if pushed.
 	 */
 	public boolean pull() {
-		return flag.getAndSet(false);
+		return flag.get() && flag.getAndSet(false);
 	}
 
 	/**
@@ -77,6 +121,90 @@ public class Pusher {
 		return pulled;
 	}
 
+	/**
+	 * Blocks until the flag is pulled by this thread.
+	 * @throws InterruptedException	If interrupted while
+	 * 								waiting.
+	 */
+	public void awaitPull() throws InterruptedException {
+		if (pull()) return;
+		Waiter waiter = enqueue(new Waiter(Thread.currentThread(), null, null));
+		if (waiter == null) return;
+		while (!waiter.isGranted()) {
+			LockSupport.park(this);
+			if (Thread.interrupted()) throw interrupted(waiter);
+		}
+	}
+
+	/**
+	 * Blocks until the flag is pulled by this thread, or
+	 * the waiting time elapses.
+	 * @param timeout	The maximum time to wait.
+	 * @param unit		The unit of the waiting time.
+	 * @return			<code>true</code> if pulled,
+	 * 					otherwise <code>false</code> if the
+	 * 					waiting time elapsed.
+	 * @throws InterruptedException	If interrupted while
+	 * 								waiting.
+	 */
+	public boolean awaitPull(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+		if (pull()) return true;
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		Waiter waiter = enqueue(new Waiter(Thread.currentThread(), null, null));
+		if (waiter == null) return true;
+		while (!waiter.isGranted()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				if (!waiter.cancel()) return true;
+				waiters.remove(waiter);
+				return false;
+			}
+			LockSupport.parkNanos(this, remaining);
+			if (Thread.interrupted()) throw interrupted(waiter);
+		}
+		return true;
+	}
+
+	/**
+	 * Registers a one-shot action to be run once the flag is
+	 * pulled for it. Runs the action at once if the flag is
+	 * already pushed.
+	 * @param executor	The executor to run the action in.
+	 * @param action	The action to be run after the flag
+	 *                  is disposed.
+	 */
+	public void onPush(@NotNull Executor executor, @NotNull Runnable action) {
+		if (pull() || enqueue(new Waiter(null, executor, action)) == null) executor.execute(action);
+	}
+
+	/**
+	 * Enqueues a waiter, then pulls again so that no push
+	 * between the first pull and the enqueuing is lost.
+	 * @param waiter	The waiter.
+	 * @return			The waiter, or <code>null</code> if
+	 * 					pulled by the second pull.
+	 */
+	private Waiter enqueue(@NotNull Waiter waiter) {
+		waiters.add(waiter);
+		if (!pull()) return waiter;
+		// Also granted by a push, so hands the extra pull on
+		if (!waiter.cancel()) push();
+		else waiters.remove(waiter);
+		return null;
+	}
+
+	/**
+	 * Cancels an interrupted waiter, handing its grant on
+	 * if already granted.
+	 * @param waiter	The waiter.
+	 * @return			The exception to throw.
+	 */
+	private InterruptedException interrupted(@NotNull Waiter waiter) {
+		if (waiter.cancel()) waiters.remove(waiter);
+		else push();
+		return new InterruptedException();
+	}
+
 	/**
 	 * Pulls and disposes the flag only if the
 	 * short-circuit condition is not met. Then runs the
@@ -125,6 +253,55 @@ public class Pusher {
 	 * @return			The old flag value.
 	 */
 	public boolean accept(@NotNull Pusher another) {
-		return flag.getAndSet(another.pull());
+		boolean pulled = another.pull(), old = flag.getAndSet(pulled);
+		if (pulled && !waiters.isEmpty()) signal();
+		return old;
+	}
+
+	/**
+	 * A consumer waiting for a push, either a parked thread
+	 * or an action to run.
+	 */
+	private static final class Waiter {
+		private static final int WAITING = 0, GRANTED = 1, CANCELLED = 2;
+
+		private final @NotNull AtomicInteger state = new AtomicInteger(WAITING);
+
+		private final Thread thread;
+
+		private final Executor executor;
+
+		private final Runnable action;
+
+		private Waiter(Thread thread, Executor executor, Runnable action) {
+			this.thread = thread;
+			this.executor = executor;
+			this.action = action;
+		}
+
+		/**
+		 * Grants a pull to this waiter, waking it up.
+		 * @return	<code>true</code> if granted, otherwise
+		 * 			<code>false</code> if cancelled.
+		 */
+		private boolean grant() {
+			if (!state.compareAndSet(WAITING, GRANTED)) return false;
+			if (thread != null) LockSupport.unpark(thread);
+			else executor.execute(action);
+			return true;
+		}
+
+		/**
+		 * Cancels this waiter.
+		 * @return	<code>true</code> if cancelled, otherwise
+		 * 			<code>false</code> if already granted.
+		 */
+		private boolean cancel() {
+			return state.compareAndSet(WAITING, CANCELLED);
+		}
+
+		private boolean isGranted() {
+			return state.get() == GRANTED;
+		}
 	}
 }
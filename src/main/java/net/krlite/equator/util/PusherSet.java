@@ -0,0 +1,127 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * <h2>PusherSet</h2>
+ * A fixed bank of disposable flags addressed by index, each
+ * behaving like a {@link Pusher} in a single bit. A summary
+ * level marks the words holding pushed flags, so that draining
+ * only visits the pushed flags.
+ * <br />
+ * A flag pushed while draining is either visited by this drain
+ * or kept for the next one, never lost.
+ *
+ * @see Pusher
+ */
+public class PusherSet {
+	/**
+	 * The flags, 64 in a word.
+	 */
+	private final @NotNull AtomicLongArray words;
+
+	/**
+	 * The summary, a bit for each word that may hold pushed flags.
+	 */
+	private final @NotNull AtomicLongArray summary;
+
+	private final int capacity;
+
+	/**
+	 * Creates a new pusher set with all flags set to
+	 * <code>false</code>.
+	 * @param capacity	The count of flags.
+	 */
+	public PusherSet(int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative, got " + capacity);
+		int words = (capacity + 63) >>> 6;
+		this.capacity = capacity;
+		this.words = new AtomicLongArray(words);
+		this.summary = new AtomicLongArray((words + 63) >>> 6);
+	}
+
+	/**
+	 * Gets the count of flags.
+	 * @return	The count.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	private int check(int index) {
+		if (index < 0 || index >= capacity) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for capacity " + capacity);
+		return index;
+	}
+
+	/**
+	 * Pushes a flag to <code>true</code>. Always writes the
+	 * word of the flag, even if already pushed, so that
+	 * everything written before the push is visible to the
+	 * next pull or drain of the flag.
+	 * @param index	The index of the flag.
+	 * @return		<code>true</code> if the flag is pushed by
+	 * 				this call, otherwise <code>false</code> if
+	 * 				already pushed.
+	 */
+	public boolean push(int index) {
+		int word = check(index) >>> 6;
+		long bit = 1L << index;
+		if ((words.getAndAccumulate(word, bit, (a, b) -> a | b) & bit) != 0) return false;
+		int summaryWord = word >>> 6;
+		long summaryBit = 1L << word;
+		if ((summary.get(summaryWord) & summaryBit) == 0) summary.getAndAccumulate(summaryWord, summaryBit, (a, b) -> a | b);
+		return true;
+	}
+
+	/**
+	 * Pulls and disposes a flag.
+	 * @param index	The index of the flag.
+	 * @return		<code>true</code> if any thread has pushed
+	 * 				the flag before last pull, otherwise
+	 * 				<code>false</code>.
+	 */
+	public boolean pull(int index) {
+		int word = check(index) >>> 6;
+		long bit = 1L << index;
+		return (words.get(word) & bit) != 0 && (words.getAndAccumulate(word, ~bit, (a, b) -> a & b) & bit) != 0;
+	}
+
+	/**
+	 * Checks whether a flag is pushed, without disposing it.
+	 * @param index	The index of the flag.
+	 * @return		<code>true</code> if pushed, otherwise
+	 * 				<code>false</code>.
+	 */
+	public boolean isPushed(int index) {
+		return (words.get(check(index) >>> 6) & (1L << index)) != 0;
+	}
+
+	/**
+	 * Pulls and disposes all pushed flags, visiting their
+	 * indices in ascending order. Costs in proportion to the
+	 * count of pushed flags rather than the capacity.
+	 * @param action	The action to visit each pushed index.
+	 * @return			The count of flags pulled.
+	 */
+	public int drain(@NotNull IntConsumer action) {
+		int count = 0;
+		for (int s = 0; s < summary.length(); s++) {
+			if (summary.get(s) == 0) continue;
+			long summaryBits = summary.getAndSet(s, 0);
+			while (summaryBits != 0) {
+				int word = (s << 6) | Long.numberOfTrailingZeros(summaryBits);
+				summaryBits &= summaryBits - 1;
+				long bits = words.getAndSet(word, 0);
+				while (bits != 0) {
+					action.accept((word << 6) | Long.numberOfTrailingZeros(bits));
+					bits &= bits - 1;
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+}
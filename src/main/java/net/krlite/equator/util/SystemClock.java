@@ -1,13 +1,19 @@
 package net.krlite.equator.util;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <h2>SystemClock</h2>
  * A class that provides the current system time in
- * milliseconds.
+ * milliseconds, and the monotonic time in nanoseconds.
  *
  * @see System#currentTimeMillis()
+ * @see System#nanoTime()
  */
 public class SystemClock {
 	/**
@@ -22,22 +28,21 @@ public class SystemClock {
 	 */
 	private final long origin;
 
-	private SystemClock() {
-		this.currentTimeMillis = this.origin = System.currentTimeMillis();
-		syncScheduled();
-	}
+	/**
+	 * The origin time of this {@link SystemClock} in the
+	 * monotonic time, in nanoseconds.
+	 */
+	private final long originNanos;
 
 	/**
-	 * Syncs the current time with the system's internal
-	 * clock.
+	 * The {@link Ticker} that syncs the current time.
 	 */
-	private void syncScheduled() {
-		new ScheduledThreadPoolExecutor(1, runnable -> {
-			Thread thread = new Thread(runnable, "SystemClock");
-			thread.setDaemon(true);
-			return thread;
-		}).scheduleAtFixedRate(() -> currentTimeMillis = System.currentTimeMillis(),
-				1, 1, java.util.concurrent.TimeUnit.MILLISECONDS);
+	private final @NotNull Ticker ticker = new Ticker();
+
+	private SystemClock() {
+		this.currentTimeMillis = this.origin = System.currentTimeMillis();
+		this.originNanos = System.nanoTime();
+		ticker.start();
 	}
 
 	/**
@@ -48,12 +53,21 @@ public class SystemClock {
 		return InstanceHolder.INSTANCE;
 	}
 
+	/**
+	 * Gets the {@link Ticker} of the {@link SystemClock}
+	 * instance.
+	 * @return	The {@link Ticker}.
+	 */
+	public static Ticker ticker() {
+		return instance().ticker;
+	}
+
 	/**
 	 * Queues the current system time in milliseconds.
 	 * @return	The current system time in milliseconds.
 	 */
 	public static long queue() {
-		return instance().currentTimeMillis;
+		return instance().ticker.read();
 	}
 
 	/**
@@ -64,6 +78,384 @@ public class SystemClock {
 		return queue() - instance().origin;
 	}
 
+	/**
+	 * Queues the monotonic time in nanoseconds, which never
+	 * jumps under system time adjustments. Only meaningful
+	 * relative to other monotonic times.
+	 * @return	The monotonic time in nanoseconds.
+	 * @see System#nanoTime()
+	 */
+	public static long queueNanos() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Queues the elapsed monotonic time since the origin time.
+	 * @return	The elapsed time since the origin time, in
+	 * 			nanoseconds.
+	 */
+	public static long queueElapsedNanos() {
+		return queueNanos() - instance().originNanos;
+	}
+
+	/**
+	 * Takes a snapshot of the tick statistics of the
+	 * {@link Ticker}, recorded since the instance is created.
+	 * @return	The statistics.
+	 */
+	public static @NotNull Stats stats() {
+		Ticker ticker = instance().ticker;
+		return new Stats(ticker.interval.snapshot(), ticker.lateness.snapshot(), ticker.staleness.snapshot());
+	}
+
+	/**
+	 * <h2>Stats</h2>
+	 * A snapshot of the tick statistics of the {@link Ticker}.
+	 * All times are in nanoseconds.
+	 */
+	public static final class Stats {
+		private final @NotNull Histogram.Snapshot interval, lateness, staleness;
+
+		private Stats(@NotNull Histogram.Snapshot interval, @NotNull Histogram.Snapshot lateness, @NotNull Histogram.Snapshot staleness) {
+			this.interval = interval;
+			this.lateness = lateness;
+			this.staleness = staleness;
+		}
+
+		/**
+		 * Gets the actual intervals between consecutive ticks.
+		 * Pauses while parked or stopped are not counted.
+		 * @return	The intervals.
+		 */
+		public @NotNull Histogram.Snapshot getInterval() {
+			return interval;
+		}
+
+		/**
+		 * Gets how late each tick runs against its fixed-rate
+		 * schedule.
+		 * @return	The lateness.
+		 */
+		public @NotNull Histogram.Snapshot getLateness() {
+			return lateness;
+		}
+
+		/**
+		 * Gets the staleness of the cached time right before each
+		 * tick, the most a reader could have observed, at the
+		 * resolution of milliseconds.
+		 * @return	The staleness.
+		 */
+		public @NotNull Histogram.Snapshot getStaleness() {
+			return staleness;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "{interval=" + interval + ", lateness=" + lateness + ", staleness=" + staleness + "}";
+		}
+	}
+
+	/**
+	 * The {@link Clock}s upon the {@link SystemClock}.
+	 */
+	public enum Source implements Clock {
+		/**
+		 * The cached system time in milliseconds, which follows
+		 * the system time adjustments.
+		 * @see #queueElapsed()
+		 */
+		MILLIS(TimeUnit.MILLISECONDS) {
+			@Override
+			public long queueElapsed() {
+				return SystemClock.queueElapsed();
+			}
+		},
+		/**
+		 * The monotonic time in nanoseconds.
+		 * @see #queueElapsedNanos()
+		 */
+		NANOS(TimeUnit.NANOSECONDS) {
+			@Override
+			public long queueElapsed() {
+				return SystemClock.queueElapsedNanos();
+			}
+		};
+
+		private final @NotNull TimeUnit unit;
+
+		Source(@NotNull TimeUnit unit) {
+			this.unit = unit;
+		}
+
+		@Override
+		public @NotNull TimeUnit getUnit() {
+			return unit;
+		}
+	}
+
+	/**
+	 * <h2>Ticker</h2>
+	 * Syncs the current time of the {@link SystemClock} with
+	 * the system's internal clock at a fixed rate, in a daemon
+	 * thread.
+	 * <br />
+	 * The ticker parks when the time has not been queued for
+	 * the idle window, and resumes on the next queue, which
+	 * reads the system's internal clock directly. While
+	 * stopped, every queue reads the system's internal clock
+	 * directly.
+	 */
+	public final class Ticker implements AutoCloseable {
+		private static final int STOPPED = 0, RUNNING = 1, PARKED = 2, CLOSED = 3;
+
+		private volatile int state = STOPPED;
+
+		/**
+		 * Whether the time has been queued since the last tick.
+		 * Only written when unset, so queuing rarely writes.
+		 */
+		private volatile boolean touched;
+
+		/**
+		 * The period of ticks, in nanoseconds.
+		 */
+		private volatile long period = TimeUnit.MILLISECONDS.toNanos(1);
+
+		/**
+		 * The time without queues to park after, in nanoseconds.
+		 */
+		private volatile long idleWindow = TimeUnit.SECONDS.toNanos(1);
+
+		private final @NotNull Histogram interval = new Histogram(), lateness = new Histogram(), staleness = new Histogram();
+
+		private @Nullable ScheduledThreadPoolExecutor executor;
+
+		private @Nullable ScheduledFuture<?> task;
+
+		/**
+		 * The ticks scheduled as the task. Must hold the lock.
+		 */
+		private @Nullable Ticks ticks;
+
+		private Ticker() {
+		}
+
+		/**
+		 * Queues the current time, resuming the ticker if parked.
+		 * @return	The current system time in milliseconds.
+		 */
+		private long read() {
+			if (!touched) touched = true;
+			if (state == RUNNING) return currentTimeMillis;
+			long now = System.currentTimeMillis();
+			if (state == PARKED) {
+				currentTimeMillis = now;
+				resume();
+			}
+			return now;
+		}
+
+		/**
+		 * Schedules the ticks. Must hold the lock.
+		 */
+		private void schedule() {
+			if (executor == null) {
+				executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+					Thread thread = new Thread(runnable, "SystemClock");
+					thread.setDaemon(true);
+					return thread;
+				});
+				executor.setRemoveOnCancelPolicy(true);
+			}
+			ticks = new Ticks(period);
+			task = executor.scheduleAtFixedRate(ticks, period, period, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Cancels the ticks. Must hold the lock.
+		 */
+		private void cancel() {
+			if (task != null) {
+				task.cancel(false);
+				task = null;
+				ticks = null;
+			}
+		}
+
+		/**
+		 * Parks the ticker, unless the ticks have been rescheduled
+		 * since, so that a tick still in flight after cancelled
+		 * never parks its successor.
+		 * @param ticks	The ticks to park.
+		 */
+		private synchronized void park(@NotNull Ticks ticks) {
+			if (state == RUNNING && this.ticks == ticks) {
+				cancel();
+				state = PARKED;
+			}
+		}
+
+		private synchronized void resume() {
+			if (state == PARKED) {
+				schedule();
+				state = RUNNING;
+			}
+		}
+
+		/**
+		 * Starts ticking, or resumes if parked.
+		 * @throws IllegalStateException	If the ticker is closed.
+		 */
+		public synchronized void start() {
+			if (state == CLOSED) throw new IllegalStateException("The ticker is closed");
+			if (state != RUNNING) {
+				currentTimeMillis = System.currentTimeMillis();
+				schedule();
+				state = RUNNING;
+			}
+		}
+
+		/**
+		 * Stops ticking. Queues read the system's internal clock
+		 * directly until started again.
+		 */
+		public synchronized void stop() {
+			if (state == RUNNING || state == PARKED) {
+				cancel();
+				state = STOPPED;
+			}
+		}
+
+		/**
+		 * Stops ticking and releases the ticking thread. Queues read
+		 * the system's internal clock directly ever after.
+		 */
+		@Override
+		public synchronized void close() {
+			stop();
+			if (executor != null) {
+				executor.shutdownNow();
+				executor = null;
+			}
+			state = CLOSED;
+		}
+
+		/**
+		 * Sets the period of ticks, the staleness limit of the
+		 * queued time. Takes effect immediately if ticking.
+		 * @param period	The period, must be positive.
+		 * @param unit		The unit of the period.
+		 */
+		public synchronized void setPeriod(long period, @NotNull TimeUnit unit) {
+			if (period <= 0) throw new IllegalArgumentException("Period must be positive, got " + period);
+			this.period = unit.toNanos(period);
+			if (state == RUNNING) {
+				cancel();
+				schedule();
+			}
+		}
+
+		/**
+		 * Gets the period of ticks.
+		 * @param unit	The unit to get the period in.
+		 * @return		The period.
+		 */
+		public long getPeriod(@NotNull TimeUnit unit) {
+			return unit.convert(period, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Sets the time without queues to park after.
+		 * @param idleWindow	The idle window, {@link Long#MAX_VALUE}
+		 *                      to never park.
+		 * @param unit			The unit of the idle window.
+		 */
+		public void setIdleWindow(long idleWindow, @NotNull TimeUnit unit) {
+			this.idleWindow = unit.toNanos(Math.max(0, idleWindow));
+		}
+
+		/**
+		 * Gets the time without queues to park after.
+		 * @param unit	The unit to get the idle window in.
+		 * @return		The idle window.
+		 */
+		public long getIdleWindow(@NotNull TimeUnit unit) {
+			return unit.convert(idleWindow, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Checks whether the ticker is ticking.
+		 * @return	<code>true</code> if ticking,
+		 * 			otherwise <code>false</code>.
+		 */
+		public boolean isRunning() {
+			return state == RUNNING;
+		}
+
+		/**
+		 * Checks whether the ticker is parked for idling.
+		 * @return	<code>true</code> if parked,
+		 * 			otherwise <code>false</code>.
+		 */
+		public boolean isParked() {
+			return state == PARKED;
+		}
+
+		/**
+		 * A schedule of ticks at a fixed period. Each schedule
+		 * carries its own bookkeeping, handed over to the ticking
+		 * thread by scheduling it, and only accessed by that thread
+		 * after, so rescheduling from another thread never races
+		 * with a tick in flight.
+		 */
+		private final class Ticks implements Runnable {
+			/**
+			 * The period of ticks, in nanoseconds.
+			 */
+			private final long period;
+
+			/**
+			 * The monotonic time of the last tick that found the
+			 * time queued.
+			 */
+			private long lastTouched;
+
+			/**
+			 * The monotonic time of the last tick, and when the
+			 * next tick is due.
+			 */
+			private long lastTick, deadline;
+
+			/**
+			 * Whether no tick has run yet.
+			 */
+			private boolean fresh = true;
+
+			private Ticks(long period) {
+				this.period = period;
+				this.lastTouched = System.nanoTime();
+				this.deadline = lastTouched + period;
+			}
+
+			@Override
+			public void run() {
+				long millis = System.currentTimeMillis(), now = System.nanoTime();
+				staleness.record(TimeUnit.MILLISECONDS.toNanos(millis - currentTimeMillis));
+				currentTimeMillis = millis;
+				if (!fresh) interval.record(now - lastTick);
+				lateness.record(now - deadline);
+				fresh = false;
+				lastTick = now;
+				deadline += period;
+				if (touched) {
+					touched = false;
+					lastTouched = now;
+				} else if (now - lastTouched >= idleWindow) park(this);
+			}
+		}
+	}
+
 	/**
 	 * Provides the {@link SystemClock} instance.
 	 */
@@ -1,20 +1,21 @@
 package net.krlite.equator.util;
 
-import net.krlite.equator.core.OperatableVoid;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
  * <h2>Timer</h2>
  * A timer class that can be used to countdown and to
- * measure the time between two events.
+ * measure the time between two events. All times are
+ * in the unit of its {@link Clock}, which is
+ * milliseconds by default.
+ * <br />
+ * A timer is not thread-safe, see {@link AtomicTimer}
+ * for one that can be shared between threads.
  */
-public class Timer implements OperatableVoid<Timer, Timer> {
-	/**
-	 * The time to countdown, must be positive.
-	 */
-	private final long lasting;
-
+public class Timer extends AbstractTimer<Timer> {
 	/**
 	 * The time when the timer is started.
 	 */
@@ -31,11 +32,41 @@ public class Timer implements OperatableVoid<Timer, Timer> {
 	private boolean stepping = false;
 
 	/**
-	 * Gets the lasting time of the timer.
-	 * @return	The lasting time.
+	 * Creates a new timer counting on a clock, with the
+	 * origin time set to the current time of the clock.
+	 * @param lasting	The lasting time, in the unit of
+	 *                  the clock. Will take the absolute
+	 *                  value.
+	 * @param clock		The clock to count on.
+	 */
+	public Timer(long lasting, @NotNull Clock clock) {
+		super(lasting, clock);
+		this.origin = clock.queueElapsed();
+	}
+
+	/**
+	 * Creates a new timer counting on a clock, with the
+	 * origin time set to the current time of the clock.
+	 * @param lasting	The lasting time. Will take the
+	 *                  absolute value.
+	 * @param unit		The unit of the lasting time.
+	 * @param clock		The clock to count on.
+	 */
+	public Timer(long lasting, @NotNull TimeUnit unit, @NotNull Clock clock) {
+		this(clock.getUnit().convert(lasting, unit), clock);
+	}
+
+	/**
+	 * Creates a new timer counting on the monotonic time,
+	 * with the origin time set to the current monotonic
+	 * time. All times are in nanoseconds.
+	 * @param lasting	The lasting time. Will take the
+	 *                  absolute value.
+	 * @param unit		The unit of the lasting time.
+	 * @see SystemClock.Source#NANOS
 	 */
-	public long getLasting() {
-		return lasting;
+	public Timer(long lasting, @NotNull TimeUnit unit) {
+		this(lasting, unit, SystemClock.Source.NANOS);
 	}
 
 	/**
@@ -43,15 +74,18 @@ public class Timer implements OperatableVoid<Timer, Timer> {
 	 * the current system time, in milliseconds.
 	 * @param lasting	The lasting time, in milliseconds.
 	 *                  Will take the absolute value.
+	 * @see SystemClock.Source#MILLIS
 	 */
 	public Timer(long lasting) {
-		this.origin = SystemClock.queueElapsed();
-		this.lasting = Math.abs(lasting);
+		this(lasting, SystemClock.Source.MILLIS);
 	}
 
-	/**
-	 * Enters the stepping mode of the timer.
-	 */
+	@Override
+	protected Timer self() {
+		return this;
+	}
+
+	@Override
 	public void enterStepping() {
 		if (!isStepping()) {
 			this.lastStep = queueElapsed();
@@ -59,156 +93,35 @@ public class Timer implements OperatableVoid<Timer, Timer> {
 		}
 	}
 
-	/**
-	 * Exits the stepping mode of the timer.
-	 */
+	@Override
 	public void quitStepping() {
 		if (isStepping()) this.stepping = false;
 	}
 
-	/**
-	 * Steps the timer if in stepping mode.
-	 *
-	 * @param step	The step to take.
-	 */
+	@Override
 	public void step(long step) {
 		if (isStepping()) this.lastStep += step;
 	}
 
-	/**
-	 *	Steps the timer by 1 if in stepping mode.
-	 */
-	public void step() {
-		step(1);
-	}
-
-	/**
-	 * Queues the time to the origin time, won't exceed
-	 * the lasting time.
-	 * @param countStepping	Whether to count this step
-	 *                      in the stepping mode.
-	 * @return				The time, in milliseconds.
-	 */
-	public long queue(boolean countStepping) {
-		return Math.min(queueElapsed(countStepping), lasting);
-	}
-
-	/**
-	 * Queues the elapsed time to the origin time,
-	 * ignores the lasting time.
-	 * @param countStepping	Whether to count this step
-	 *                      in the stepping mode.
-	 * @return				The time elapsed, in
-	 * 						milliseconds.
-	 */
+	@Override
 	public long queueElapsed(boolean countStepping) {
-		if (countStepping && isStepping()) origin = SystemClock.queueElapsed() - ++lastStep;
-		return SystemClock.queueElapsed() - origin;
+		long now = getClock().queueElapsed();
+		if (countStepping && isStepping()) origin = now - ++lastStep;
+		return now - origin;
 	}
 
-	/**
-	 * Queues the time to the origin time as percentage.
-	 * @param countStepping	Whether to count this step
-	 *                      in the stepping mode.
-	 * @return				The time in the range of [0, 1].
-	 */
-	public double queueAsPercentage(boolean countStepping) {
-		return (double) queue(countStepping) / (double) lasting;
-	}
-
-	/**
-	 * Queues the time to the origin time, won't exceed
-	 * the lasting time.
-	 * @return	The time, in milliseconds.
-	 */
-	public long queue() {
-		return queue(true);
-	}
-
-	/**
-	 * Queues the elapsed time to the origin time,
-	 * ignores the lasting time.
-	 * @return	The time elapsed, in milliseconds.
-	 */
-	public long queueElapsed() {
-		return queueElapsed(true);
-	}
-
-	/**
-	 * Queues the time to the origin time as percentage.
-	 * @return	The time in the range of [0, 1].
-	 */
-	public double queueAsPercentage() {
-		return queueAsPercentage(true);
-	}
-
-	/**
-	 * Checks whether the timer has reached the lasting
-	 * time limit, and runs the runnable if it has.
-	 * @param runnable	The runnable to be run if the
-	 *                  timer has reached the lasting
-	 *                  time limit.
-	 * @return			<code>true</code> if the timer
-	 * 					has reached the lasting time
-	 * 					limit, which means the timer
-	 * 					has already counted down, and
-	 * 					the runnable has been run.
-	 * 					otherwise <code>false</code>.
-	 */
-	public boolean run(Runnable runnable) {
-		if (isFinished()) {
-			runnable.run();
-			return true;
-		} else return false;
-	}
-
-	/**
-	 * Checks whether the timer has not reached the
-	 * lasting time limit.
-	 * @return	<code>true</code> if the timer has
-	 * 			not reached the lasting time limit,
-	 * 			which means the timer is still
-	 * 			counting.
-	 * 			otherwise <code>false</code>.
-	 */
-	public boolean isPresent() {
-		return queueElapsed() >= 0 && queueElapsed() <= lasting;
-	}
-
-	/**
-	 * Checks whether the timer has reached the lasting
-	 * time limit.
-	 * @return	<code>true</code> if the timer has
-	 * 			reached the lasting time limit, which
-	 * 			means the timer has already counted
-	 * 			down.
-	 * 			otherwise <code>false</code>.
-	 */
-	public boolean isFinished() {
-		return queueElapsed() > lasting;
-	}
-
-	/**
-	 * Checks whether the timer is in the stepping mode.
-	 * @return	<code>true</code> if the timer is in
-	 * 			the stepping mode.
-	 * 			otherwise <code>false</code>.
-	 */
+	@Override
 	public boolean isStepping() {
 		return stepping;
 	}
 
-	/**
-	 * Resets the timer without changing the lasting
-	 * time.
-	 */
+	@Override
 	public void reset() {
-		this.origin = SystemClock.queueElapsed();
+		this.origin = getClock().queueElapsed();
 	}
 
 	@Override
 	public Timer operate(Consumer<Timer> operation) {
-		operation.accept(this);
-		return this;
+		return super.operate(operation);
 	}
 }
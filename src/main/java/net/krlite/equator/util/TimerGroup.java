@@ -0,0 +1,176 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>TimerGroup</h2>
+ * A {@link Clock} with its own pausable and scalable time base
+ * upon a parent clock. The {@link Timer}s counting on a group
+ * are paused, resumed and scaled together, at a constant cost
+ * regardless of their count. Groups nest by taking another
+ * group as the parent, and all times are in the unit of the
+ * parent.
+ * <br />
+ * A timer group is thread-safe. Reads never block, and the
+ * time never goes backwards, as every read is clamped to the
+ * latest time read by any thread.
+ */
+public class TimerGroup implements Clock {
+	/**
+	 * An immutable snapshot of the time base, swapped as a whole
+	 * so that reads are consistent without locking.
+	 */
+	private static final class State {
+		/**
+		 * The elapsed time of the parent at the anchor.
+		 */
+		private final long anchorParent;
+
+		/**
+		 * The elapsed time of the group at the anchor.
+		 */
+		private final long anchorLocal;
+
+		private final double speed;
+
+		private final boolean paused;
+
+		private State(long anchorParent, long anchorLocal, double speed, boolean paused) {
+			this.anchorParent = anchorParent;
+			this.anchorLocal = anchorLocal;
+			this.speed = speed;
+			this.paused = paused;
+		}
+
+		private long elapsed(long parent) {
+			return paused ? anchorLocal : anchorLocal + (long) ((parent - anchorParent) * speed);
+		}
+	}
+
+	/**
+	 * The clock to count upon.
+	 */
+	private final @NotNull Clock parent;
+
+	private volatile @NotNull State state;
+
+	/**
+	 * The latest time read, which reads are clamped to, as a
+	 * reader may compute from a state replaced in the meantime.
+	 */
+	private final @NotNull AtomicLong latest = new AtomicLong();
+
+	/**
+	 * Creates a new running timer group upon a parent clock, at
+	 * the normal speed, with the elapsed time starting at zero.
+	 * @param parent	The clock to count upon.
+	 */
+	public TimerGroup(@NotNull Clock parent) {
+		this.parent = parent;
+		this.state = new State(parent.queueElapsed(), 0, 1, false);
+	}
+
+	/**
+	 * Creates a new running timer group upon the system time in
+	 * milliseconds.
+	 * @see SystemClock.Source#MILLIS
+	 */
+	public TimerGroup() {
+		this(SystemClock.Source.MILLIS);
+	}
+
+	/**
+	 * Gets the parent clock of the group.
+	 * @return	The parent clock.
+	 */
+	public @NotNull Clock getParent() {
+		return parent;
+	}
+
+	/**
+	 * Pauses the group, freezing the time of all its timers.
+	 */
+	public synchronized void pause() {
+		State state = this.state;
+		if (!state.paused) {
+			long now = parent.queueElapsed();
+			this.state = new State(now, clamp(state.elapsed(now)), state.speed, true);
+		}
+	}
+
+	/**
+	 * Resumes the group from where it was paused.
+	 */
+	public synchronized void resume() {
+		State state = this.state;
+		if (state.paused) this.state = new State(parent.queueElapsed(), state.anchorLocal, state.speed, false);
+	}
+
+	/**
+	 * Checks whether the group is paused.
+	 * @return	<code>true</code> if paused,
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isPaused() {
+		return state.paused;
+	}
+
+	/**
+	 * Sets the speed of the group relative to the parent, from
+	 * now on. Kept while paused.
+	 * @param speed	The speed, must be finite and not negative.
+	 */
+	public synchronized void setSpeed(double speed) {
+		if (!(speed >= 0) || Double.isInfinite(speed))
+			throw new IllegalArgumentException("Speed must be finite and not negative, got " + speed);
+		State state = this.state;
+		long now = parent.queueElapsed();
+		this.state = new State(now, clamp(state.elapsed(now)), speed, state.paused);
+	}
+
+	/**
+	 * Gets the speed of the group relative to the parent.
+	 * @return	The speed.
+	 */
+	public double getSpeed() {
+		return state.speed;
+	}
+
+	/**
+	 * Creates a new timer counting on this group.
+	 * @param lasting	The lasting time, in the unit of
+	 *                  the parent. Will take the absolute
+	 *                  value.
+	 * @return			The timer.
+	 */
+	public @NotNull Timer timer(long lasting) {
+		return new Timer(lasting, this);
+	}
+
+	/**
+	 * Clamps a time to the latest time read, and records it.
+	 * @param elapsed	The time computed from a state.
+	 * @return			The time, never before the latest time read.
+	 */
+	private long clamp(long elapsed) {
+		long latest;
+		while (elapsed > (latest = this.latest.get())) {
+			if (this.latest.compareAndSet(latest, elapsed)) return elapsed;
+		}
+		return latest;
+	}
+
+	@Override
+	public long queueElapsed() {
+		State state = this.state;
+		return clamp(state.paused ? state.anchorLocal : state.elapsed(parent.queueElapsed()));
+	}
+
+	@Override
+	public @NotNull TimeUnit getUnit() {
+		return parent.getUnit();
+	}
+}
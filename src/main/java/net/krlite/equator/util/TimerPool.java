@@ -0,0 +1,397 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * <h2>TimerPool</h2>
+ * A pool of timers stored in parallel columns and addressed by
+ * <code>int</code> handles, behaving the same as {@link Timer}s
+ * without a heap object per timer. The bulk operations read the
+ * clock once per batch and never count steps in the stepping mode,
+ * the same as the timer operations with <code>countStepping</code>
+ * set to <code>false</code>. All times are in the unit of the
+ * {@link Clock} of the pool, which is milliseconds by default.
+ * <br />
+ * A pool is not thread-safe. A released handle may be reused by
+ * the next allocation.
+ *
+ * @see Timer
+ */
+public class TimerPool {
+	/**
+	 * The clock to count on.
+	 */
+	private final @NotNull Clock clock;
+
+	/**
+	 * The time to countdown of each timer.
+	 */
+	private long[] lasting;
+
+	/**
+	 * The time when each timer is started.
+	 */
+	private long[] origin;
+
+	/**
+	 * The time elapsed at each timer's last step.
+	 */
+	private long[] lastStep;
+
+	/**
+	 * The stepping mode of each timer.
+	 */
+	private boolean[] stepping;
+
+	/**
+	 * Whether each handle is allocated.
+	 */
+	private boolean[] alive;
+
+	/**
+	 * The stack of released handles.
+	 */
+	private int[] released;
+
+	/**
+	 * The count of released handles in the stack.
+	 */
+	private int releasedCount;
+
+	/**
+	 * The count of handles ever used, all handles are below it.
+	 */
+	private int size;
+
+	/**
+	 * Creates a new timer pool counting on a clock.
+	 * @param capacity	The initial capacity.
+	 * @param clock		The clock to count on.
+	 */
+	public TimerPool(int capacity, @NotNull Clock clock) {
+		this.clock = clock;
+		capacity = Math.max(1, capacity);
+		this.lasting = new long[capacity];
+		this.origin = new long[capacity];
+		this.lastStep = new long[capacity];
+		this.stepping = new boolean[capacity];
+		this.alive = new boolean[capacity];
+		this.released = new int[capacity];
+	}
+
+	/**
+	 * Creates a new timer pool counting on the system time in
+	 * milliseconds.
+	 * @param capacity	The initial capacity.
+	 * @see SystemClock.Source#MILLIS
+	 */
+	public TimerPool(int capacity) {
+		this(capacity, SystemClock.Source.MILLIS);
+	}
+
+	/**
+	 * Creates a new timer pool with a capacity of 16, counting
+	 * on a clock.
+	 * @param clock	The clock to count on.
+	 */
+	public TimerPool(@NotNull Clock clock) {
+		this(16, clock);
+	}
+
+	/**
+	 * Creates a new timer pool with a capacity of 16, counting
+	 * on the system time in milliseconds.
+	 */
+	public TimerPool() {
+		this(16);
+	}
+
+	/**
+	 * Gets the clock of the pool.
+	 * @return	The clock.
+	 */
+	public @NotNull Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Queues the clock of this pool.
+	 * @return	The elapsed time of the clock.
+	 */
+	private long now() {
+		return clock.queueElapsed();
+	}
+
+	/**
+	 * Allocates a timer with the origin time set to the current
+	 * time of the clock.
+	 * @param lasting	The lasting time. Will take
+	 *                  the absolute value.
+	 * @return			The handle of the timer.
+	 */
+	public int allocate(long lasting) {
+		int handle;
+		if (releasedCount > 0) handle = released[--releasedCount];
+		else {
+			if (size == alive.length) grow();
+			handle = size++;
+		}
+		this.lasting[handle] = Math.abs(lasting);
+		this.origin[handle] = now();
+		this.lastStep[handle] = 0;
+		this.stepping[handle] = false;
+		this.alive[handle] = true;
+		return handle;
+	}
+
+	/**
+	 * Grows the columns to twice the capacity.
+	 */
+	private void grow() {
+		int capacity = alive.length << 1;
+		lasting = Arrays.copyOf(lasting, capacity);
+		origin = Arrays.copyOf(origin, capacity);
+		lastStep = Arrays.copyOf(lastStep, capacity);
+		stepping = Arrays.copyOf(stepping, capacity);
+		alive = Arrays.copyOf(alive, capacity);
+		released = Arrays.copyOf(released, capacity);
+	}
+
+	/**
+	 * Releases a timer, its handle may be reused afterwards.
+	 * @param handle	The handle of the timer.
+	 */
+	public void release(int handle) {
+		check(handle);
+		alive[handle] = false;
+		released[releasedCount++] = handle;
+	}
+
+	/**
+	 * Checks whether a handle is allocated.
+	 * @param handle	The handle.
+	 * @return			<code>true</code> if the handle is
+	 * 					allocated and not released.
+	 * 					otherwise <code>false</code>.
+	 */
+	public boolean isAlive(int handle) {
+		return handle >= 0 && handle < size && alive[handle];
+	}
+
+	private void check(int handle) {
+		if (!isAlive(handle)) throw new IllegalArgumentException("Handle " + handle + " is not allocated");
+	}
+
+	/**
+	 * Gets the count of handles ever used. All handles are below
+	 * it, which is the length the arrays of the bulk operations
+	 * need.
+	 * @return	The count of handles ever used.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the count of allocated timers.
+	 * @return	The count of allocated timers.
+	 */
+	public int count() {
+		return size - releasedCount;
+	}
+
+	/**
+	 * Gets the lasting time of a timer.
+	 * @param handle	The handle of the timer.
+	 * @return			The lasting time.
+	 */
+	public long getLasting(int handle) {
+		check(handle);
+		return lasting[handle];
+	}
+
+	/**
+	 * Enters the stepping mode of a timer.
+	 * @param handle	The handle of the timer.
+	 * @see Timer#enterStepping()
+	 */
+	public void enterStepping(int handle) {
+		if (!isStepping(handle)) {
+			lastStep[handle] = queueElapsed(handle);
+			stepping[handle] = true;
+		}
+	}
+
+	/**
+	 * Exits the stepping mode of a timer.
+	 * @param handle	The handle of the timer.
+	 * @see Timer#quitStepping()
+	 */
+	public void quitStepping(int handle) {
+		if (isStepping(handle)) stepping[handle] = false;
+	}
+
+	/**
+	 * Steps a timer if in stepping mode.
+	 * @param handle	The handle of the timer.
+	 * @param step		The step to take.
+	 * @see Timer#step(long)
+	 */
+	public void step(int handle, long step) {
+		if (isStepping(handle)) lastStep[handle] += step;
+	}
+
+	/**
+	 * Steps a timer by 1 if in stepping mode.
+	 * @param handle	The handle of the timer.
+	 * @see Timer#step()
+	 */
+	public void step(int handle) {
+		step(handle, 1);
+	}
+
+	/**
+	 * Checks whether a timer is in the stepping mode.
+	 * @param handle	The handle of the timer.
+	 * @return			<code>true</code> if the timer is in
+	 * 					the stepping mode.
+	 * 					otherwise <code>false</code>.
+	 */
+	public boolean isStepping(int handle) {
+		check(handle);
+		return stepping[handle];
+	}
+
+	/**
+	 * Resets a timer without changing the lasting time.
+	 * @param handle	The handle of the timer.
+	 */
+	public void reset(int handle) {
+		check(handle);
+		origin[handle] = now();
+	}
+
+	/**
+	 * Queues the elapsed time of a timer to its origin time,
+	 * ignores the lasting time.
+	 * @param handle		The handle of the timer.
+	 * @param countStepping	Whether to count this step in the
+	 *                      stepping mode.
+	 * @return				The time elapsed.
+	 * @see Timer#queueElapsed(boolean)
+	 */
+	public long queueElapsed(int handle, boolean countStepping) {
+		check(handle);
+		long now = now();
+		if (countStepping && stepping[handle]) origin[handle] = now - ++lastStep[handle];
+		return now - origin[handle];
+	}
+
+	/**
+	 * Queues the elapsed time of a timer to its origin time,
+	 * ignores the lasting time.
+	 * @param handle	The handle of the timer.
+	 * @return			The time elapsed.
+	 */
+	public long queueElapsed(int handle) {
+		return queueElapsed(handle, true);
+	}
+
+	/**
+	 * Queues the time of a timer to its origin time, won't exceed
+	 * the lasting time.
+	 * @param handle	The handle of the timer.
+	 * @return			The time.
+	 */
+	public long queue(int handle) {
+		return Math.min(queueElapsed(handle), lasting[handle]);
+	}
+
+	/**
+	 * Queues the time of a timer to its origin time as percentage.
+	 * @param handle	The handle of the timer.
+	 * @return			The time in the range of [0, 1].
+	 */
+	public double queueAsPercentage(int handle) {
+		return (double) queue(handle) / (double) lasting[handle];
+	}
+
+	/**
+	 * Checks whether a timer has not reached the lasting time
+	 * limit.
+	 * @param handle	The handle of the timer.
+	 * @return			<code>true</code> if the timer is still
+	 * 					counting.
+	 * 					otherwise <code>false</code>.
+	 */
+	public boolean isPresent(int handle) {
+		long elapsed = queueElapsed(handle);
+		return elapsed >= 0 && elapsed <= lasting[handle];
+	}
+
+	/**
+	 * Checks whether a timer has reached the lasting time limit.
+	 * @param handle	The handle of the timer.
+	 * @return			<code>true</code> if the timer has
+	 * 					already counted down.
+	 * 					otherwise <code>false</code>.
+	 */
+	public boolean isFinished(int handle) {
+		return queueElapsed(handle) > lasting[handle];
+	}
+
+	/**
+	 * Queues the time of every timer to its origin time, won't
+	 * exceed the lasting time. Reads the clock once.
+	 * @param out	The array to store the times, indexed by
+	 *              handles, at least {@link #size()} long.
+	 *              Released handles are set to <code>-1</code>.
+	 */
+	public void queueAll(long @NotNull [] out) {
+		final long now = now();
+		for (int i = 0; i < size; i++) out[i] = alive[i] ? Math.min(now - origin[i], lasting[i]) : -1;
+	}
+
+	/**
+	 * Queues the time of every timer to its origin time as
+	 * percentage. Reads the clock once.
+	 * @param out	The array to store the percentages, indexed by
+	 *              handles, at least {@link #size()} long.
+	 *              Released handles are set to {@link Double#NaN}.
+	 */
+	public void queueAllAsPercentage(double @NotNull [] out) {
+		final long now = now();
+		for (int i = 0; i < size; i++)
+			out[i] = alive[i] ? (double) Math.min(now - origin[i], lasting[i]) / (double) lasting[i] : Double.NaN;
+	}
+
+	/**
+	 * Collects every timer that has reached the lasting time
+	 * limit. Reads the clock once.
+	 * @param consumer	The consumer accepting the handles of the
+	 *                  finished timers, which may release them.
+	 * @return			The count of finished timers.
+	 */
+	public int collectFinished(@NotNull IntConsumer consumer) {
+		final long now = now();
+		int count = 0;
+		for (int i = 0, size = this.size; i < size; i++) {
+			if (alive[i] && now - origin[i] > lasting[i]) {
+				consumer.accept(i);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Resets every timer without changing the lasting times.
+	 * Reads the clock once.
+	 */
+	public void resetAll() {
+		Arrays.fill(origin, 0, size, now());
+	}
+}
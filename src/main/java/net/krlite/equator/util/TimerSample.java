@@ -0,0 +1,66 @@
+package net.krlite.equator.util;
+
+/**
+ * <h2>TimerSample</h2>
+ * A reusable sample of a {@link Timer}, filled by
+ * {@link Timer#sample(TimerSample)} from a single read of
+ * the clock, so that all values agree with each other.
+ *
+ * @see Timer#sample(TimerSample)
+ */
+public class TimerSample {
+	long elapsed, time;
+	double percentage;
+	boolean present, finished;
+
+	/**
+	 * Gets the elapsed time to the origin time, ignoring
+	 * the lasting time.
+	 * @return	The time elapsed.
+	 * @see Timer#queueElapsed()
+	 */
+	public long getElapsed() {
+		return elapsed;
+	}
+
+	/**
+	 * Gets the time to the origin time, which won't exceed
+	 * the lasting time.
+	 * @return	The time.
+	 * @see Timer#queue()
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Gets the time to the origin time as percentage.
+	 * @return	The time in the range of [0, 1].
+	 * @see Timer#queueAsPercentage()
+	 */
+	public double getPercentage() {
+		return percentage;
+	}
+
+	/**
+	 * Checks whether the timer had not reached the lasting
+	 * time limit.
+	 * @return	<code>true</code> if the timer was still
+	 * 			counting, otherwise <code>false</code>.
+	 * @see Timer#isPresent()
+	 */
+	public boolean isPresent() {
+		return present;
+	}
+
+	/**
+	 * Checks whether the timer had reached the lasting
+	 * time limit.
+	 * @return	<code>true</code> if the timer had already
+	 * 			counted down, otherwise <code>false</code>.
+	 * @see Timer#isFinished()
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+}
@@ -0,0 +1,465 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <h2>TimingWheel</h2>
+ * A hashed hierarchical timing wheel that runs tasks after delays
+ * or when {@link Timer}s finish, driven by the monotonic time of
+ * the {@link SystemClock}, so it neither lags behind the cached
+ * system time nor stalls when the system time is adjusted.
+ * <br />
+ * Each level has 64 slots, every slot of a level spanning a whole
+ * turn of the level below, so scheduling and cancelling cost O(1)
+ * and every tick costs O(1) amortized, regardless of the count of
+ * pending timeouts. Memory grows only with the pending timeouts.
+ * <br />
+ * Scheduling and cancelling are thread-safe. Tasks run on the single
+ * worker thread of the wheel, which is started on the first
+ * schedule and parks while no timeout is pending.
+ */
+public class TimingWheel {
+	private static final int WHEEL_BITS = 6, WHEEL_SIZE = 1 << WHEEL_BITS, WHEEL_MASK = WHEEL_SIZE - 1, LEVELS = 4;
+
+	private static final int INIT = 0, STARTED = 1, STOPPED = 2;
+
+	/**
+	 * The duration of a tick, in nanoseconds.
+	 */
+	private final long tickDuration;
+
+	/**
+	 * The maximum count of pending timeouts.
+	 */
+	private final long maxPending;
+
+	/**
+	 * The heads of the slots, by level.
+	 */
+	private final Timeout[][] slots = new Timeout[LEVELS][WHEEL_SIZE];
+
+	/**
+	 * The timeouts scheduled but not yet put into the slots.
+	 */
+	private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The timeouts cancelled but not yet removed from the slots.
+	 */
+	private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The count of pending timeouts.
+	 */
+	private final AtomicLong pending = new AtomicLong();
+
+	private final AtomicInteger state = new AtomicInteger(INIT);
+
+	private volatile @Nullable Thread worker;
+
+	/**
+	 * Whether the worker is parked with no timeout pending.
+	 */
+	private volatile boolean idle;
+
+	/**
+	 * The count of timeouts in the slots. Only accessed by the worker.
+	 */
+	private long occupied;
+
+	/**
+	 * The current tick. Only accessed by the worker.
+	 */
+	private long tick;
+
+	/**
+	 * The elapsed monotonic time of the {@link SystemClock} at tick
+	 * zero, in nanoseconds.
+	 */
+	private long startTime;
+
+	/**
+	 * Creates a new timing wheel.
+	 * @param tickDuration	The duration of a tick, the precision of
+	 *                      the wheel.
+	 * @param unit			The unit of the duration.
+	 * @param maxPending	The maximum count of pending timeouts,
+	 *                      beyond which scheduling is rejected.
+	 */
+	public TimingWheel(long tickDuration, @NotNull TimeUnit unit, long maxPending) {
+		this.tickDuration = Math.max(TimeUnit.MILLISECONDS.toNanos(1), unit.toNanos(tickDuration));
+		this.maxPending = maxPending;
+	}
+
+	/**
+	 * Creates a new timing wheel without a limit of pending timeouts.
+	 * @param tickDuration	The duration of a tick, the precision of
+	 *                      the wheel.
+	 * @param unit			The unit of the duration.
+	 */
+	public TimingWheel(long tickDuration, @NotNull TimeUnit unit) {
+		this(tickDuration, unit, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Gets the shared {@link TimingWheel} instance, ticking every
+	 * millisecond.
+	 * @return	The instance.
+	 */
+	public static TimingWheel instance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Gets the count of pending timeouts.
+	 * @return	The count of pending timeouts.
+	 */
+	public long pendingTimeouts() {
+		return pending.get();
+	}
+
+	/**
+	 * Schedules a task to run once after a delay.
+	 * @param task	The task to run.
+	 * @param delay	The delay.
+	 * @param unit	The unit of the delay.
+	 * @return		The {@link Timeout} of the task.
+	 * @throws RejectedExecutionException	If the wheel is stopped
+	 * 										or too many timeouts are
+	 * 										pending.
+	 */
+	public Timeout schedule(@NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+		return schedule(new Timeout(this, task, null, Math.max(0, unit.toNanos(delay))));
+	}
+
+	/**
+	 * Schedules a task to run once the {@link Timer} has finished.
+	 * The remaining time is read once, on the calling thread, as
+	 * timers are not thread-safe. Resetting or stepping the timer
+	 * afterwards does not move the timeout, {@link Timeout#rearm()}
+	 * it instead.
+	 * <br />
+	 * The wheel runs on the real time, so only timers counting on a
+	 * {@link SystemClock.Source} are supported. Timers counting on
+	 * other clocks, such as a {@link VirtualClock}, a
+	 * {@link TimerGroup} or a {@link FrameClock}, finish at no
+	 * predictable real time, and should be polled instead.
+	 * @param timer	The {@link Timer} to wait for.
+	 * @param task	The task to run.
+	 * @return		The {@link Timeout} of the task.
+	 * @throws UnsupportedOperationException	If the timer does not
+	 * 											count on a
+	 * 											{@link SystemClock.Source}.
+	 * @throws RejectedExecutionException	If the wheel is stopped
+	 * 										or too many timeouts are
+	 * 										pending.
+	 */
+	public Timeout schedule(@NotNull AbstractTimer<?> timer, @NotNull Runnable task) {
+		return schedule(new Timeout(this, task, timer, remaining(timer)));
+	}
+
+	/**
+	 * Gets the remaining time of a {@link Timer} until it finishes,
+	 * without counting steps.
+	 * @param timer	The {@link Timer}.
+	 * @return		The remaining time, in nanoseconds.
+	 */
+	private static long remaining(@NotNull AbstractTimer<?> timer) {
+		checkRealTime(timer);
+		return Math.max(0, timer.getClock().getUnit().toNanos(timer.getLasting() - timer.queueElapsed(false)) + 1);
+	}
+
+	/**
+	 * Checks whether a {@link Timer} counts on the real time, so
+	 * that the wheel can wait for it.
+	 * @param timer	The {@link Timer}.
+	 * @throws UnsupportedOperationException	If the timer does not
+	 * 											count on a
+	 * 											{@link SystemClock.Source}.
+	 */
+	static void checkRealTime(@NotNull AbstractTimer<?> timer) {
+		if (!(timer.getClock() instanceof SystemClock.Source))
+			throw new UnsupportedOperationException("Only timers counting on a SystemClock.Source can be waited for, got "
+															+ timer.getClock() + ", poll Timer.isFinished() instead");
+	}
+
+	private Timeout schedule(Timeout timeout) {
+		start();
+		if (pending.incrementAndGet() > maxPending) {
+			pending.decrementAndGet();
+			throw new RejectedExecutionException("Too many pending timeouts, the maximum is " + maxPending);
+		}
+		timeout.deadline = SystemClock.queueElapsedNanos() + timeout.delay;
+		scheduled.add(timeout);
+		if (idle) LockSupport.unpark(worker);
+		return timeout;
+	}
+
+	/**
+	 * Starts the worker thread if not yet started.
+	 * @throws RejectedExecutionException	If the wheel is stopped.
+	 */
+	public void start() {
+		switch (state.get()) {
+			case INIT -> {
+				if (state.compareAndSet(INIT, STARTED)) {
+					startTime = SystemClock.queueElapsedNanos();
+					Thread thread = new Thread(this::work, "TimingWheel");
+					thread.setDaemon(true);
+					worker = thread;
+					thread.start();
+				}
+			}
+			case STOPPED -> throw new RejectedExecutionException("The timing wheel is stopped");
+		}
+	}
+
+	/**
+	 * Stops the worker thread. Pending timeouts will never expire.
+	 */
+	public void stop() {
+		if (state.getAndSet(STOPPED) == STARTED) {
+			Thread thread = worker;
+			if (thread != null) LockSupport.unpark(thread);
+		}
+	}
+
+	private void work() {
+		while (state.get() == STARTED) {
+			long now = SystemClock.queueElapsedNanos(), target = (now - startTime) / tickDuration;
+			if (target <= tick) {
+				LockSupport.parkNanos((tick + 1) * tickDuration + startTime - now);
+				continue;
+			}
+			removeCancelled();
+			// The slots are empty, so the skipped ticks have nothing to expire
+			if (occupied == 0) tick = target - 1;
+			transferScheduled();
+			while (tick < target) advance();
+			if (occupied == 0 && scheduled.isEmpty()) {
+				idle = true;
+				if (scheduled.isEmpty() && state.get() == STARTED) LockSupport.park(this);
+				idle = false;
+			}
+		}
+	}
+
+	private void removeCancelled() {
+		for (Timeout timeout; (timeout = cancelled.poll()) != null; ) {
+			if (timeout.level >= 0) {
+				unlink(timeout);
+				pending.decrementAndGet();
+			}
+		}
+	}
+
+	private void transferScheduled() {
+		for (Timeout timeout; (timeout = scheduled.poll()) != null; ) {
+			if (timeout.isCancelled()) pending.decrementAndGet();
+			else insert(timeout, Math.max(tick + 1, Math.floorDiv(timeout.deadline - startTime + tickDuration - 1, tickDuration)));
+		}
+	}
+
+	/**
+	 * Advances the wheel by one tick, cascading the higher levels
+	 * and expiring the lowest.
+	 */
+	private void advance() {
+		tick++;
+		for (int level = LEVELS - 1; level > 0; level--) {
+			if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+				int slot = (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+				for (Timeout timeout = detach(level, slot), next; timeout != null; timeout = next) {
+					next = timeout.next;
+					timeout.next = timeout.prev = null;
+					insert(timeout, timeout.tick);
+				}
+			}
+		}
+		for (Timeout timeout = detach(0, (int) tick & WHEEL_MASK), next; timeout != null; timeout = next) {
+			next = timeout.next;
+			timeout.next = timeout.prev = null;
+			if (timeout.tick > tick) insert(timeout, timeout.tick);
+			else expire(timeout);
+		}
+	}
+
+	private void expire(Timeout timeout) {
+		if (timeout.isCancelled()) {
+			pending.decrementAndGet();
+			return;
+		}
+		pending.decrementAndGet();
+		if (!timeout.state.compareAndSet(Timeout.INIT, Timeout.EXPIRED)) return;
+		try {
+			timeout.task.run();
+		} catch (Throwable throwable) {
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+		}
+	}
+
+	/**
+	 * Inserts a timeout into the slot of its deadline, on the lowest
+	 * level that spans the deadline.
+	 * @param timeout		The timeout.
+	 * @param deadlineTick	The tick to expire at.
+	 */
+	private void insert(Timeout timeout, long deadlineTick) {
+		long remaining = deadlineTick - tick;
+		int level = 0;
+		while (level < LEVELS - 1 && remaining >= 1L << (WHEEL_BITS * (level + 1))) level++;
+		int slot = remaining <= 0 ? (int) tick & WHEEL_MASK : (int) (deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+		timeout.tick = deadlineTick;
+		timeout.level = level;
+		timeout.slot = slot;
+		Timeout head = slots[level][slot];
+		timeout.next = head;
+		if (head != null) head.prev = timeout;
+		slots[level][slot] = timeout;
+		occupied++;
+	}
+
+	private @Nullable Timeout detach(int level, int slot) {
+		Timeout head = slots[level][slot];
+		slots[level][slot] = null;
+		for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+			timeout.level = -1;
+			occupied--;
+		}
+		return head;
+	}
+
+	private void unlink(Timeout timeout) {
+		if (timeout.prev != null) timeout.prev.next = timeout.next;
+		else slots[timeout.level][timeout.slot] = timeout.next;
+		if (timeout.next != null) timeout.next.prev = timeout.prev;
+		timeout.next = timeout.prev = null;
+		timeout.level = -1;
+		occupied--;
+	}
+
+	/**
+	 * A task scheduled on a {@link TimingWheel}.
+	 */
+	public static final class Timeout {
+		private static final int INIT = 0, CANCELLED = 1, EXPIRED = 2;
+
+		private final @NotNull TimingWheel wheel;
+		private final @NotNull Runnable task;
+		private final @Nullable AbstractTimer<?> timer;
+
+		/**
+		 * The delay when scheduled, in nanoseconds.
+		 */
+		private final long delay;
+
+		private final AtomicInteger state = new AtomicInteger(INIT);
+
+		/**
+		 * The elapsed monotonic time of the {@link SystemClock} to
+		 * expire at, in nanoseconds.
+		 */
+		private volatile long deadline;
+
+		/**
+		 * The tick to expire at, the slot holding the timeout and the
+		 * links within the slot. Only accessed by the worker.
+		 */
+		private long tick;
+		private int level = -1, slot;
+		private @Nullable Timeout prev, next;
+
+		private Timeout(@NotNull TimingWheel wheel, @NotNull Runnable task, @Nullable AbstractTimer<?> timer, long delay) {
+			this.wheel = wheel;
+			this.task = task;
+			this.timer = timer;
+			this.delay = delay;
+		}
+
+		/**
+		 * Gets the {@link TimingWheel} of this timeout.
+		 * @return	The {@link TimingWheel}.
+		 */
+		public @NotNull TimingWheel getWheel() {
+			return wheel;
+		}
+
+		/**
+		 * Gets the task of this timeout.
+		 * @return	The task.
+		 */
+		public @NotNull Runnable getTask() {
+			return task;
+		}
+
+		/**
+		 * Cancels this timeout so its task will never run.
+		 * @return	<code>true</code> if cancelled by this call,
+		 * 			otherwise <code>false</code> if it has
+		 * 			already expired or been cancelled.
+		 */
+		public boolean cancel() {
+			if (!state.compareAndSet(INIT, CANCELLED)) return false;
+			wheel.cancelled.add(this);
+			return true;
+		}
+
+		/**
+		 * Cancels this timeout and schedules its task again, with the
+		 * same delay or the same {@link Timer}, whose remaining time
+		 * is read again on the calling thread.
+		 * @return	The new {@link Timeout}.
+		 */
+		public Timeout rearm() {
+			cancel();
+			return timer != null ? wheel.schedule(timer, task) : wheel.schedule(task, delay, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Cancels this timeout and schedules its task again with a new
+		 * delay.
+		 * @param delay	The delay.
+		 * @param unit	The unit of the delay.
+		 * @return		The new {@link Timeout}.
+		 */
+		public Timeout rearm(long delay, @NotNull TimeUnit unit) {
+			cancel();
+			return wheel.schedule(task, delay, unit);
+		}
+
+		/**
+		 * Checks whether this timeout is cancelled.
+		 * @return	<code>true</code> if cancelled,
+		 * 			otherwise <code>false</code>.
+		 */
+		public boolean isCancelled() {
+			return state.get() == CANCELLED;
+		}
+
+		/**
+		 * Checks whether this timeout has expired and its task has run.
+		 * @return	<code>true</code> if expired,
+		 * 			otherwise <code>false</code>.
+		 */
+		public boolean isExpired() {
+			return state.get() == EXPIRED;
+		}
+	}
+
+	/**
+	 * Provides the {@link TimingWheel} instance.
+	 */
+	private static class InstanceHolder {
+		private static final TimingWheel INSTANCE = new TimingWheel(1, TimeUnit.MILLISECONDS);
+	}
+}
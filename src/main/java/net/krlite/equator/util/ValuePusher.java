@@ -0,0 +1,75 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * <h2>ValuePusher</h2>
+ * A pusher carrying a value, as a single-slot mailbox.
+ * A push overwrites any value not pulled yet, and a pull takes
+ * the newest value, so a fast producer never grows a queue for
+ * a slow consumer.
+ *
+ * @param <T>	The type of the value.
+ * @see LongValuePusher
+ * @see DoubleValuePusher
+ */
+public class ValuePusher<T> {
+	/**
+	 * The value pushed, <code>null</code> if pulled.
+	 */
+	private final @NotNull AtomicReference<T> value = new AtomicReference<>();
+
+	/**
+	 * Pushes a value, overwriting any value not pulled yet.
+	 * @param value	The value.
+	 */
+	public void push(@NotNull T value) {
+		this.value.set(Objects.requireNonNull(value, "Cannot push null, which marks the pulled slot"));
+	}
+
+	/**
+	 * Pulls and disposes the newest value.
+	 * @return	The value, or <code>null</code> if nothing
+	 * 			is pushed since last pull.
+	 */
+	public @Nullable T pull() {
+		return value.get() == null ? null : value.getAndSet(null);
+	}
+
+	/**
+	 * Pulls and disposes the newest value, then passes it to
+	 * the action if success.
+	 * @param action	The action to accept the value.
+	 * @return			<code>true</code> if any value is pushed
+	 * 					since last pull, otherwise
+	 * 					<code>false</code>.
+	 */
+	public boolean pull(@NotNull Consumer<? super T> action) {
+		T pulled = pull();
+		if (pulled != null) action.accept(pulled);
+		return pulled != null;
+	}
+
+	/**
+	 * Gets the newest value without disposing it.
+	 * @return	The value, or <code>null</code> if nothing
+	 * 			is pushed since last pull.
+	 */
+	public @Nullable T peek() {
+		return value.get();
+	}
+
+	/**
+	 * Checks whether any value is pushed since last pull.
+	 * @return	<code>true</code> if pushed,
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isPushed() {
+		return value.get() != null;
+	}
+}
@@ -0,0 +1,144 @@
+package net.krlite.equator.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2>VirtualClock</h2>
+ * A {@link Clock} whose time is advanced manually, or runs in
+ * fast-forward at a rate of the monotonic time, for simulating
+ * and replaying {@link Timer}s and animations deterministically.
+ * All times are in nanoseconds.
+ * <br />
+ * A virtual clock is thread-safe. Reads never block, and the
+ * time never goes backwards, as every read is clamped to the
+ * latest time read by any thread.
+ */
+public class VirtualClock implements Clock {
+	/**
+	 * An immutable snapshot of the clock, swapped as a whole so
+	 * that reads are consistent without locking.
+	 */
+	private static final class State {
+		/**
+		 * The elapsed time at the anchor.
+		 */
+		private final long base;
+
+		/**
+		 * The monotonic time at which the base is taken.
+		 */
+		private final long anchor;
+
+		/**
+		 * The rate of the monotonic time, <code>0</code> for
+		 * the manual mode.
+		 */
+		private final double rate;
+
+		private State(long base, long anchor, double rate) {
+			this.base = base;
+			this.anchor = anchor;
+			this.rate = rate;
+		}
+
+		private long elapsed(long now) {
+			return rate == 0 ? base : base + (long) ((now - anchor) * rate);
+		}
+	}
+
+	private volatile @NotNull State state;
+
+	/**
+	 * The latest time read, which reads are clamped to, as a
+	 * reader may compute from a stale state, and rounding may
+	 * step back across states.
+	 */
+	private final @NotNull AtomicLong latest = new AtomicLong();
+
+	/**
+	 * Creates a new virtual clock at time zero, running in
+	 * fast-forward.
+	 * @param rate	The rate of the monotonic time, <code>0</code>
+	 *              for the manual mode.
+	 */
+	public VirtualClock(double rate) {
+		this.state = new State(0, SystemClock.queueNanos(), checkRate(rate));
+	}
+
+	/**
+	 * Creates a new virtual clock at time zero, in the manual mode.
+	 */
+	public VirtualClock() {
+		this(0);
+	}
+
+	private static double checkRate(double rate) {
+		if (!(rate >= 0) || Double.isInfinite(rate))
+			throw new IllegalArgumentException("Rate must be finite and not negative, got " + rate);
+		return rate;
+	}
+
+	/**
+	 * Advances the time manually, in either mode.
+	 * @param time	The time to advance, must not be negative.
+	 * @param unit	The unit of the time.
+	 */
+	public synchronized void advance(long time, @NotNull TimeUnit unit) {
+		if (time < 0) throw new IllegalArgumentException("Time must not be negative, got " + time);
+		long now = SystemClock.queueNanos();
+		this.state = new State(clamp(state.elapsed(now)) + unit.toNanos(time), now, state.rate);
+	}
+
+	/**
+	 * Sets the rate of the monotonic time to run at, from now on.
+	 * @param rate	The rate, <code>0</code> to enter the manual mode.
+	 */
+	public synchronized void setRate(double rate) {
+		checkRate(rate);
+		long now = SystemClock.queueNanos();
+		this.state = new State(clamp(state.elapsed(now)), now, rate);
+	}
+
+	/**
+	 * Gets the rate of the monotonic time to run at.
+	 * @return	The rate, <code>0</code> in the manual mode.
+	 */
+	public double getRate() {
+		return state.rate;
+	}
+
+	/**
+	 * Checks whether the clock runs in fast-forward.
+	 * @return	<code>true</code> if running in fast-forward,
+	 * 			otherwise <code>false</code>.
+	 */
+	public boolean isRunning() {
+		return state.rate != 0;
+	}
+
+	/**
+	 * Clamps a time to the latest time read, and records it.
+	 * @param elapsed	The time computed from a state.
+	 * @return			The time, never before the latest time read.
+	 */
+	private long clamp(long elapsed) {
+		long latest;
+		while (elapsed > (latest = this.latest.get())) {
+			if (this.latest.compareAndSet(latest, elapsed)) return elapsed;
+		}
+		return latest;
+	}
+
+	@Override
+	public long queueElapsed() {
+		return clamp(state.elapsed(SystemClock.queueNanos()));
+	}
+
+	@Override
+	public @NotNull TimeUnit getUnit() {
+		return TimeUnit.NANOSECONDS;
+	}
+}
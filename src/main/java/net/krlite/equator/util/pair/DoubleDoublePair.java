@@ -0,0 +1,92 @@
+package net.krlite.equator.util.pair;
+
+import net.krlite.equator.core.ShortStringable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pair of two <code>double</code> elements, stored without boxing.
+ *
+ * @see DoublePair
+ */
+public class DoubleDoublePair implements ShortStringable {
+	/**
+	 * The first element.
+	 */
+	protected final double first;
+
+	/**
+	 * The second element.
+	 */
+	protected final double second;
+
+	/**
+	 * Creates a new pair.
+	 *
+	 * @param first		The first element.
+	 * @param second	The second element.
+	 */
+	public DoubleDoublePair(double first, double second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Gets the first element.
+	 *
+	 * @return	The first element.
+	 */
+	public double firstDouble() {
+		return first;
+	}
+
+	/**
+	 * Gets the second element.
+	 *
+	 * @return	The second element.
+	 */
+	public double secondDouble() {
+		return second;
+	}
+
+	/**
+	 * Swaps the elements in the pair.
+	 *
+	 * @return	A new pair with the elements swapped.
+	 */
+	public DoubleDoublePair swap() {
+		return new DoubleDoublePair(second, first);
+	}
+
+	/**
+	 * Boxes the elements into a {@link DoublePair}.
+	 *
+	 * @return	A new boxed pair with the same elements.
+	 */
+	public @NotNull DoublePair toPair() {
+		return new DoublePair(first, second);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		DoubleDoublePair that = (DoubleDoublePair) o;
+		return Double.compare(first, that.first) == 0 && Double.compare(second, that.second) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Double.hashCode(first) + Double.hashCode(second);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{first=" + first + ", second=" + second + "}";
+	}
+
+	@Override
+	public String toShortString() {
+		return "{" + first + ", " + second + "}";
+	}
+}
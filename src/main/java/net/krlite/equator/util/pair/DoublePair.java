@@ -1,8 +1,11 @@
 package net.krlite.equator.util.pair;
 
+import net.krlite.equator.core.Specialized;
+
 /**
  * @see Pair
  */
+@Specialized
 public class DoublePair extends Pair<Double, Double> {
 	public DoublePair(Double first, Double second) {
 		super(first, second);
@@ -0,0 +1,92 @@
+package net.krlite.equator.util.pair;
+
+import net.krlite.equator.core.ShortStringable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pair of two <code>float</code> elements, stored without boxing.
+ *
+ * @see FloatPair
+ */
+public class FloatFloatPair implements ShortStringable {
+	/**
+	 * The first element.
+	 */
+	protected final float first;
+
+	/**
+	 * The second element.
+	 */
+	protected final float second;
+
+	/**
+	 * Creates a new pair.
+	 *
+	 * @param first		The first element.
+	 * @param second	The second element.
+	 */
+	public FloatFloatPair(float first, float second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Gets the first element.
+	 *
+	 * @return	The first element.
+	 */
+	public float firstFloat() {
+		return first;
+	}
+
+	/**
+	 * Gets the second element.
+	 *
+	 * @return	The second element.
+	 */
+	public float secondFloat() {
+		return second;
+	}
+
+	/**
+	 * Swaps the elements in the pair.
+	 *
+	 * @return	A new pair with the elements swapped.
+	 */
+	public FloatFloatPair swap() {
+		return new FloatFloatPair(second, first);
+	}
+
+	/**
+	 * Boxes the elements into a {@link FloatPair}.
+	 *
+	 * @return	A new boxed pair with the same elements.
+	 */
+	public @NotNull FloatPair toPair() {
+		return new FloatPair(first, second);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		FloatFloatPair that = (FloatFloatPair) o;
+		return Float.compare(first, that.first) == 0 && Float.compare(second, that.second) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Float.hashCode(first) + Float.hashCode(second);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{first=" + first + ", second=" + second + "}";
+	}
+
+	@Override
+	public String toShortString() {
+		return "{" + first + ", " + second + "}";
+	}
+}
@@ -1,8 +1,11 @@
 package net.krlite.equator.util.pair;
 
+import net.krlite.equator.core.Specialized;
+
 /**
  * @see Pair
  */
+@Specialized
 public class FloatPair extends Pair<Float, Float> {
 	public FloatPair(Float first, Float second) {
 		super(first, second);
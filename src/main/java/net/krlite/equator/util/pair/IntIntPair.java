@@ -0,0 +1,92 @@
+package net.krlite.equator.util.pair;
+
+import net.krlite.equator.core.ShortStringable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pair of two <code>int</code> elements, stored without boxing.
+ *
+ * @see IntegerPair
+ */
+public class IntIntPair implements ShortStringable {
+	/**
+	 * The first element.
+	 */
+	protected final int first;
+
+	/**
+	 * The second element.
+	 */
+	protected final int second;
+
+	/**
+	 * Creates a new pair.
+	 *
+	 * @param first		The first element.
+	 * @param second	The second element.
+	 */
+	public IntIntPair(int first, int second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Gets the first element.
+	 *
+	 * @return	The first element.
+	 */
+	public int firstInt() {
+		return first;
+	}
+
+	/**
+	 * Gets the second element.
+	 *
+	 * @return	The second element.
+	 */
+	public int secondInt() {
+		return second;
+	}
+
+	/**
+	 * Swaps the elements in the pair.
+	 *
+	 * @return	A new pair with the elements swapped.
+	 */
+	public IntIntPair swap() {
+		return new IntIntPair(second, first);
+	}
+
+	/**
+	 * Boxes the elements into a {@link IntegerPair}.
+	 *
+	 * @return	A new boxed pair with the same elements.
+	 */
+	public @NotNull IntegerPair toPair() {
+		return new IntegerPair(first, second);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		IntIntPair that = (IntIntPair) o;
+		return first == that.first && second == that.second;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Integer.hashCode(first) + Integer.hashCode(second);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{first=" + first + ", second=" + second + "}";
+	}
+
+	@Override
+	public String toShortString() {
+		return "{" + first + ", " + second + "}";
+	}
+}
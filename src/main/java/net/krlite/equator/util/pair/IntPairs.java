@@ -0,0 +1,120 @@
+package net.krlite.equator.util.pair;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Codecs of pairs of two <code>int</code> elements packed into a
+ * <code>long</code>, the first element in the high half. A packed
+ * pair needs no object, and can be updated with a single
+ * <code>CAS</code> of an atomic <code>long</code>.
+ *
+ * @see IntegerPair
+ * @see IntIntPair
+ */
+public class IntPairs {
+	private IntPairs() {
+	}
+
+	/**
+	 * Packs two elements into a pair.
+	 *
+	 * @param first		The first element.
+	 * @param second	The second element.
+	 * @return			The packed pair.
+	 */
+	public static long pack(int first, int second) {
+		return ((long) first << 32) | (second & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Gets the first element of a packed pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @return			The first element.
+	 */
+	public static int first(long packed) {
+		return (int) (packed >>> 32);
+	}
+
+	/**
+	 * Gets the second element of a packed pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @return			The second element.
+	 */
+	public static int second(long packed) {
+		return (int) packed;
+	}
+
+	/**
+	 * Swaps the elements of a packed pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @return			The packed pair with the elements swapped.
+	 */
+	public static long swap(long packed) {
+		return Long.rotateLeft(packed, 32);
+	}
+
+	/**
+	 * Replaces the first element of a packed pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @param first		The new first element.
+	 * @return			The packed pair with the first element replaced.
+	 */
+	public static long withFirst(long packed, int first) {
+		return pack(first, second(packed));
+	}
+
+	/**
+	 * Replaces the second element of a packed pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @param second	The new second element.
+	 * @return			The packed pair with the second element replaced.
+	 */
+	public static long withSecond(long packed, int second) {
+		return pack(first(packed), second);
+	}
+
+	/**
+	 * Packs a boxed pair.
+	 *
+	 * @param pair	The pair, whose elements must not be <code>null</code>.
+	 * @return		The packed pair.
+	 */
+	public static long pack(@NotNull IntegerPair pair) {
+		return pack(pair.getFirst(), pair.getSecond());
+	}
+
+	/**
+	 * Packs a primitive pair.
+	 *
+	 * @param pair	The pair.
+	 * @return		The packed pair.
+	 */
+	public static long pack(@NotNull IntIntPair pair) {
+		return pack(pair.firstInt(), pair.secondInt());
+	}
+
+	/**
+	 * Unpacks a packed pair into a boxed pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @return			A new boxed pair.
+	 */
+	public static @NotNull IntegerPair toPair(long packed) {
+		return new IntegerPair(first(packed), second(packed));
+	}
+
+	/**
+	 * Unpacks a packed pair into a primitive pair.
+	 *
+	 * @param packed	The packed pair.
+	 * @return			A new primitive pair.
+	 */
+	public static @NotNull IntIntPair toIntIntPair(long packed) {
+		return new IntIntPair(first(packed), second(packed));
+	}
+}
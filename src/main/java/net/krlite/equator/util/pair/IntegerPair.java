@@ -1,8 +1,11 @@
 package net.krlite.equator.util.pair;
 
+import net.krlite.equator.core.Specialized;
+
 /**
  * @see Pair
  */
+@Specialized
 public class IntegerPair extends Pair<Integer, Integer> {
 	public IntegerPair(Integer first, Integer second) {
 		super(first, second);
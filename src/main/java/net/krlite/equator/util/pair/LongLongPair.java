@@ -0,0 +1,92 @@
+package net.krlite.equator.util.pair;
+
+import net.krlite.equator.core.ShortStringable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pair of two <code>long</code> elements, stored without boxing.
+ *
+ * @see LongPair
+ */
+public class LongLongPair implements ShortStringable {
+	/**
+	 * The first element.
+	 */
+	protected final long first;
+
+	/**
+	 * The second element.
+	 */
+	protected final long second;
+
+	/**
+	 * Creates a new pair.
+	 *
+	 * @param first		The first element.
+	 * @param second	The second element.
+	 */
+	public LongLongPair(long first, long second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	/**
+	 * Gets the first element.
+	 *
+	 * @return	The first element.
+	 */
+	public long firstLong() {
+		return first;
+	}
+
+	/**
+	 * Gets the second element.
+	 *
+	 * @return	The second element.
+	 */
+	public long secondLong() {
+		return second;
+	}
+
+	/**
+	 * Swaps the elements in the pair.
+	 *
+	 * @return	A new pair with the elements swapped.
+	 */
+	public LongLongPair swap() {
+		return new LongLongPair(second, first);
+	}
+
+	/**
+	 * Boxes the elements into a {@link LongPair}.
+	 *
+	 * @return	A new boxed pair with the same elements.
+	 */
+	public @NotNull LongPair toPair() {
+		return new LongPair(first, second);
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		LongLongPair that = (LongLongPair) o;
+		return first == that.first && second == that.second;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Long.hashCode(first) + Long.hashCode(second);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{first=" + first + ", second=" + second + "}";
+	}
+
+	@Override
+	public String toShortString() {
+		return "{" + first + ", " + second + "}";
+	}
+}
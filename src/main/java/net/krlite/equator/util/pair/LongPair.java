@@ -1,8 +1,11 @@
 package net.krlite.equator.util.pair;
 
+import net.krlite.equator.core.Specialized;
+
 /**
  * @see Pair
  */
+@Specialized
 public class LongPair extends Pair<Long, Long> {
 	public LongPair(Long first, Long second) {
 		super(first, second);
@@ -2,6 +2,7 @@ package net.krlite.equator.util.pair;
 
 import net.krlite.equator.base.HashCodeComparable;
 import net.krlite.equator.core.ShortStringable;
+import net.krlite.equator.core.Specialized;
 
 /**
  * A pair of two elements.
@@ -9,6 +10,7 @@ import net.krlite.equator.core.ShortStringable;
  * @param <F>	The type of the first element.
  * @param <S>	The type of the second element.
  */
+@Specialized
 public class Pair<F, S> extends HashCodeComparable implements ShortStringable, Cloneable {
 	/**
 	 * The first object.
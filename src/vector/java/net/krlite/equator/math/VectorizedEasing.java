@@ -0,0 +1,167 @@
+package net.krlite.equator.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The batch easing functions built upon the
+ * <code>jdk.incubator.vector</code> module, only loaded when the
+ * module is present. Every kernel evaluates in the same order as its
+ * scalar counterpart in {@link EasingFunctions}, but powers by
+ * multiplication, so the results may differ from the scalar
+ * <code>Math.pow</code> by an ulp.
+ *
+ * @see EasingKernels#load()
+ */
+final class VectorizedEasing implements EasingKernels {
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	VectorizedEasing() {
+	}
+
+	@Override
+	public void linear(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector p = DoubleVector.fromArray(SPECIES, progress, i).div(duration);
+			DoubleVector.fromArray(SPECIES, shift, i).mul(p).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Linear.ease(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quadratic(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector x = DoubleVector.fromArray(SPECIES, progress, i).div(duration / 2);
+			DoubleVector s = DoubleVector.fromArray(SPECIES, shift, i), o = DoubleVector.fromArray(SPECIES, origin, i);
+			DoubleVector y = x.sub(1);
+			DoubleVector first = s.div(2).mul(x.mul(x)).add(o);
+			DoubleVector second = s.neg().div(2).mul(y.mul(y.sub(2)).sub(1)).add(o);
+			second.blend(first, x.lt(1)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quadratic.ease(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quadraticIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector p = DoubleVector.fromArray(SPECIES, progress, i).div(duration);
+			DoubleVector.fromArray(SPECIES, shift, i).mul(p).mul(p).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quadratic.easeIn(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quadraticOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector p = DoubleVector.fromArray(SPECIES, progress, i).div(duration);
+			DoubleVector.fromArray(SPECIES, shift, i).neg().mul(p).mul(p.sub(2)).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quadratic.easeOut(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void cubic(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector x = DoubleVector.fromArray(SPECIES, progress, i).div(duration / 2);
+			DoubleVector s = DoubleVector.fromArray(SPECIES, shift, i), o = DoubleVector.fromArray(SPECIES, origin, i);
+			DoubleVector y = x.sub(2);
+			DoubleVector first = s.div(2).mul(x.mul(x).mul(x)).add(o);
+			DoubleVector second = s.neg().div(2).mul(y.mul(y.mul(y)).add(2)).add(o);
+			second.blend(first, x.lt(1)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Cubic.ease(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void cubicIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector p = DoubleVector.fromArray(SPECIES, progress, i).div(duration);
+			DoubleVector.fromArray(SPECIES, shift, i).mul(p).mul(p.mul(p)).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Cubic.easeIn(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void cubicOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector q = DoubleVector.fromArray(SPECIES, progress, i).div(duration).sub(1);
+			DoubleVector.fromArray(SPECIES, shift, i).neg().mul(q.mul(q.mul(q)).add(1)).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Cubic.easeOut(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quartic(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector x = DoubleVector.fromArray(SPECIES, progress, i).div(duration / 2);
+			DoubleVector s = DoubleVector.fromArray(SPECIES, shift, i), o = DoubleVector.fromArray(SPECIES, origin, i);
+			DoubleVector y = x.sub(2);
+			DoubleVector first = s.div(2).mul(x.mul(x).mul(x).mul(x)).add(o);
+			DoubleVector second = s.neg().div(2).mul(y.mul(y.mul(y).mul(y)).sub(2)).add(o);
+			second.blend(first, x.lt(1)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quartic.ease(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quarticIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector p = DoubleVector.fromArray(SPECIES, progress, i).div(duration);
+			DoubleVector.fromArray(SPECIES, shift, i).mul(p).mul(p.mul(p).mul(p)).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quartic.easeIn(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quarticOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector q = DoubleVector.fromArray(SPECIES, progress, i).div(duration).sub(1);
+			DoubleVector.fromArray(SPECIES, shift, i).neg().mul(q.mul(q.mul(q).mul(q)).sub(1)).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quartic.easeOut(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quintic(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector x = DoubleVector.fromArray(SPECIES, progress, i).div(duration / 2);
+			DoubleVector s = DoubleVector.fromArray(SPECIES, shift, i), o = DoubleVector.fromArray(SPECIES, origin, i);
+			DoubleVector y = x.sub(2);
+			DoubleVector first = s.div(2).mul(x.mul(x).mul(x).mul(x)).add(o);
+			DoubleVector second = s.neg().div(2).mul(y).mul(y.mul(y).mul(y)).sub(2).add(o);
+			second.blend(first, x.lt(1)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quintic.ease(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quinticIn(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector p = DoubleVector.fromArray(SPECIES, progress, i).div(duration);
+			DoubleVector.fromArray(SPECIES, shift, i).mul(p).mul(p.mul(p).mul(p)).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quintic.easeIn(progress[i], origin[i], shift[i], duration);
+	}
+
+	@Override
+	public void quinticOut(double[] progress, double[] origin, double[] shift, double duration, double[] out) {
+		int i = 0;
+		for (int upper = SPECIES.loopBound(out.length); i < upper; i += SPECIES.length()) {
+			DoubleVector q = DoubleVector.fromArray(SPECIES, progress, i).div(duration).sub(1);
+			DoubleVector.fromArray(SPECIES, shift, i).neg().mul(q).mul(q.mul(q).mul(q)).sub(1).add(DoubleVector.fromArray(SPECIES, origin, i)).intoArray(out, i);
+		}
+		for (; i < out.length; i++) out[i] = EasingFunctions.Quintic.easeOut(progress[i], origin[i], shift[i], duration);
+	}
+}